@@ -0,0 +1,69 @@
+package com.avispl.dal.communicator.pexip.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled with the jfr profile only, as it reads the recorded events with jdk.jfr
+ */
+public class JfrEventsTest {
+
+    @Test
+    public void testEventsAreCommitted() throws Exception {
+        Assume.assumeTrue("JFR is not available", FlightRecorderEvents.isAvailable());
+        Path dump = Files.createTempFile("pexip-events-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.avispl.pexip.ApiRequest").withThreshold(Duration.ZERO);
+            recording.enable("com.avispl.pexip.ModelMapping").withThreshold(Duration.ZERO);
+            recording.enable("com.avispl.pexip.PollCycle");
+            recording.enable("com.avispl.pexip.Report");
+            recording.start();
+
+            MetricsInterceptor interceptor = new MetricsInterceptor(new AdapterMetrics());
+            MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://pexip.local/api/admin/status/v1/conference/"));
+            try (ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+                    (httpRequest, body) -> new MockClientHttpResponse("{\"objects\": []}".getBytes(), HttpStatus.OK))) {
+                StreamUtils.copyToByteArray(response.getBody());
+            }
+            FlightRecorderEvents.beginModelMapping("ConferenceStatus").end(3, false);
+            FlightRecorderEvents.beginPollCycle().end(10, true);
+            FlightRecorderEvents.beginReport("Logs#StatisticLogs").end(0, false);
+
+            recording.stop();
+            recording.dump(dump);
+            Map<String, RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .collect(Collectors.toMap(event -> event.getEventType().getName(), Function.identity()));
+
+            RecordedEvent requestEvent = events.get("com.avispl.pexip.ApiRequest");
+            Assert.assertEquals("GET", requestEvent.getString("method"));
+            Assert.assertEquals("StatusConference", requestEvent.getString("endpoint"));
+            Assert.assertEquals(200, requestEvent.getInt("status"));
+            Assert.assertEquals(15, requestEvent.getLong("bytes"));
+            Assert.assertEquals("ConferenceStatus", events.get("com.avispl.pexip.ModelMapping").getString("model"));
+            Assert.assertEquals(3, events.get("com.avispl.pexip.ModelMapping").getLong("rows"));
+            Assert.assertEquals(10, events.get("com.avispl.pexip.PollCycle").getLong("nodes"));
+            Assert.assertTrue(events.get("com.avispl.pexip.PollCycle").getBoolean("failed"));
+            Assert.assertEquals("Logs#StatisticLogs", events.get("com.avispl.pexip.Report").getString("report"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event types of the adapter. The class references jdk.jfr, so it is only compiled with the jfr profile and is only
+ * loaded by {@link FlightRecorderEvents} when JFR is available. Events, that are disabled in the running recordings,
+ * are not tracked at all.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class JfrEvents implements FlightRecorderEvents.Events {
+    private static final String CATEGORY = "Pexip Management Node";
+
+    @Name("com.avispl.pexip.ApiRequest")
+    @Label("API Request")
+    @Description("Management Node API request, including the response body read time")
+    @Category({"Symphony", CATEGORY})
+    @Threshold("100 ms")
+    @StackTrace(false)
+    static final class ApiRequestEvent extends Event {
+        @Label("Method")
+        String method;
+        @Label("Endpoint")
+        String endpoint;
+        @Label("Status")
+        int status;
+        @Label("Bytes Received")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("com.avispl.pexip.ModelMapping")
+    @Label("Model Mapping")
+    @Description("Batch of API objects mapped to the properties with a model-mapping.yml model")
+    @Category({"Symphony", CATEGORY})
+    @Threshold("10 ms")
+    @StackTrace(false)
+    static final class ModelMappingEvent extends Event {
+        @Label("Model")
+        String model;
+        @Label("Rows")
+        long rows;
+    }
+
+    @Name("com.avispl.pexip.PollCycle")
+    @Label("Poll Cycle")
+    @Description("Conferencing nodes statistics collection cycle")
+    @Category({"Symphony", CATEGORY})
+    @Threshold("0 ms")
+    @StackTrace(false)
+    static final class PollCycleEvent extends Event {
+        @Label("Conferencing Nodes")
+        long nodes;
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("com.avispl.pexip.Report")
+    @Label("Email Report")
+    @Description("Email report generation and delivery")
+    @Category({"Symphony", CATEGORY})
+    @Threshold("0 ms")
+    @StackTrace(false)
+    static final class ReportEvent extends Event {
+        @Label("Report")
+        String report;
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Override
+    public FlightRecorderEvents.RequestRecording beginRequest(String method, String endpoint) {
+        ApiRequestEvent event = new ApiRequestEvent();
+        if (!event.isEnabled()) {
+            return FlightRecorderEvents.RequestRecording.NONE;
+        }
+        event.begin();
+        return (status, bytes) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.endpoint = endpoint;
+                event.status = status;
+                event.bytes = bytes;
+                event.commit();
+            }
+        };
+    }
+
+    @Override
+    public FlightRecorderEvents.Recording beginModelMapping(String model) {
+        ModelMappingEvent event = new ModelMappingEvent();
+        if (!event.isEnabled()) {
+            return FlightRecorderEvents.Recording.NONE;
+        }
+        event.begin();
+        return (count, failed) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.model = model;
+                event.rows = count;
+                event.commit();
+            }
+        };
+    }
+
+    @Override
+    public FlightRecorderEvents.Recording beginPollCycle() {
+        PollCycleEvent event = new PollCycleEvent();
+        if (!event.isEnabled()) {
+            return FlightRecorderEvents.Recording.NONE;
+        }
+        event.begin();
+        return (count, failed) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.nodes = count;
+                event.failed = failed;
+                event.commit();
+            }
+        };
+    }
+
+    @Override
+    public FlightRecorderEvents.Recording beginReport(String report) {
+        ReportEvent event = new ReportEvent();
+        if (!event.isEnabled()) {
+            return FlightRecorderEvents.Recording.NONE;
+        }
+        event.begin();
+        return (count, failed) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.report = report;
+                event.failed = failed;
+                event.commit();
+            }
+        };
+    }
+}
@@ -0,0 +1,205 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Synthetic Management Node API responses of configurable size, shaped after the status and history API objects.
+ * The data is deterministic, so benchmark runs are comparable.
+ */
+final class PexipFixtures {
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private PexipFixtures() {
+    }
+
+    /**
+     * Create status/v1/worker_vm objects
+     *
+     * @param nodes number of conferencing nodes
+     * @return response objects
+     */
+    static ArrayNode conferencingNodes(int nodes) {
+        ArrayNode objects = NODES.arrayNode();
+        for (int i = 0; i < nodes; i++) {
+            ObjectNode node = objects.addObject();
+            node.put("id", String.valueOf(i));
+            node.put("name", nodeName(i));
+            node.put("resource_uri", "/api/admin/status/v1/worker_vm/" + i + "/");
+            node.put("max_audio_calls", 400);
+            node.put("max_full_hd_calls", 12);
+            node.put("max_hd_calls", 25);
+            node.put("max_media_tokens", 2500);
+            node.put("max_sd_calls", 50);
+            node.put("media_load", i % 100);
+            node.put("media_tokens_used", i * 10);
+            node.put("total_ram", 16383908);
+            node.put("signaling_count", i % 7);
+            node.put("boot_time", "2021-06-01T10:00:00.000000");
+            node.put("cpu_count", 8);
+            node.put("cpu_model", "Intel(R) Xeon(R) Platinum 8259CL CPU @ 2.50GHz");
+            node.put("deploy_status", "DEPLOYED");
+            node.put("hypervisor", "VMware");
+            node.put("last_reported", "2021-06-10T10:00:00.000000");
+            node.put("maintenance_mode", false);
+            node.put("node_type", "CONFERENCING");
+            node.put("system_location", "Location " + i % 3);
+            node.put("version", "26.0.0");
+        }
+        return objects;
+    }
+
+    /**
+     * Create conferencing nodes configuration, as mapped by the ConferencingNodesConfig model
+     *
+     * @param nodes number of conferencing nodes
+     * @return configuration properties by node name
+     */
+    static Map<String, Map<String, String>> conferencingNodesConfiguration(int nodes) {
+        Map<String, Map<String, String>> configurations = new HashMap<>();
+        for (int i = 0; i < nodes; i++) {
+            Map<String, String> configuration = new HashMap<>();
+            configuration.put("Configuration#ID", String.valueOf(i));
+            configuration.put("Configuration#Name", nodeName(i));
+            configuration.put("Configuration#NodeAddress", nodeAddress(i));
+            configurations.put(nodeName(i), Collections.unmodifiableMap(configuration));
+        }
+        return Collections.unmodifiableMap(configurations);
+    }
+
+    /**
+     * Create status/v1/conference objects
+     *
+     * @param conferences number of conferences
+     * @return response objects
+     */
+    static ArrayNode conferences(int conferences) {
+        ArrayNode objects = NODES.arrayNode();
+        for (int i = 0; i < conferences; i++) {
+            ObjectNode conference = objects.addObject();
+            conference.put("guests_muted", false);
+            conference.put("id", conferenceId(i));
+            conference.put("is_locked", false);
+            conference.put("is_started", true);
+            conference.put("name", conferenceName(i));
+            conference.put("resource_uri", "/api/admin/status/v1/conference/" + conferenceId(i) + "/");
+            conference.put("service_type", "conference");
+            conference.put("start_time", "2021-06-10T10:00:00.000000");
+            conference.put("tag", "");
+        }
+        return objects;
+    }
+
+    /**
+     * Create status/v1/conference_shard objects, two shards per conference
+     *
+     * @param conferences number of conferences
+     * @param nodes       number of conferencing nodes
+     * @return response objects
+     */
+    static ArrayNode conferenceShards(int conferences, int nodes) {
+        ArrayNode objects = NODES.arrayNode();
+        for (int i = 0; i < conferences; i++) {
+            for (int shard = 0; shard < 2; shard++) {
+                ObjectNode conferenceShard = objects.addObject();
+                conferenceShard.put("id", conferenceId(i));
+                conferenceShard.put("conference", conferenceName(i));
+                conferenceShard.put("node", nodeAddress((i + shard) % nodes));
+                conferenceShard.put("system_location", "Location " + i % 3);
+                conferenceShard.put("is_direct", false);
+                conferenceShard.put("guests_muted", false);
+            }
+        }
+        return objects;
+    }
+
+    /**
+     * Create status/v1/participant objects
+     *
+     * @param conferences               number of conferences
+     * @param participantsPerConference number of participants of every conference
+     * @return response objects
+     */
+    static ArrayNode participants(int conferences, int participantsPerConference) {
+        ArrayNode objects = NODES.arrayNode();
+        for (int i = 0; i < conferences; i++) {
+            for (int p = 0; p < participantsPerConference; p++) {
+                String id = conferenceId(i) + "-" + p;
+                ObjectNode participant = objects.addObject();
+                participant.put("bandwidth", 1536);
+                participant.put("call_direction", p % 2 == 0 ? "in" : "out");
+                participant.put("call_quality", "1_good");
+                participant.put("call_uuid", id);
+                participant.put("conference", conferenceName(i));
+                participant.put("connect_time", "2021-06-10T10:00:00.000000");
+                participant.put("conversation_id", id);
+                participant.put("destination_alias", "meet." + i + "@example.com");
+                participant.put("display_name", "Participant " + id);
+                participant.put("encryption", "On");
+                participant.put("has_media", true);
+                participant.put("id", id);
+                participant.put("is_disconnect_supported", true);
+                participant.put("is_muted", false);
+                participant.put("is_presenting", false);
+                participant.put("licence_count", 1);
+                participant.put("licence_type", "port");
+                participant.put("media_node", "10.0.0." + p);
+                participant.put("protocol", "WebRTC");
+                participant.put("remote_address", "192.168.1." + p);
+                participant.put("remote_port", 40000 + p);
+                participant.put("role", "chair");
+                participant.put("rx_bandwidth", 768);
+                participant.put("service_type", "conference");
+                participant.put("signalling_node", "10.0.0." + p);
+                participant.put("source_alias", "participant" + p + "@example.com");
+                participant.put("system_location", "Location " + i % 3);
+                participant.put("tx_bandwidth", 768);
+                participant.put("vendor", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0 Safari/537.36");
+                ArrayNode mediaStreams = participant.putArray("media_streams");
+                mediaStreams.addObject().put("type", "audio").put("rx_codec", "opus").put("tx_codec", "opus");
+                mediaStreams.addObject().put("type", "video").put("rx_codec", "VP8").put("tx_codec", "VP8").put("rx_resolution", "1280x720");
+            }
+        }
+        return objects;
+    }
+
+    /**
+     * Serialize response objects as a single Management Node API response page
+     *
+     * @param objects response objects
+     * @return raw response body
+     * @throws Exception if the page cannot be serialized
+     */
+    static byte[] page(ArrayNode objects) throws Exception {
+        ObjectNode page = NODES.objectNode();
+        ObjectNode meta = page.putObject("meta");
+        meta.put("limit", objects.size());
+        meta.putNull("next");
+        meta.put("offset", 0);
+        meta.put("total_count", objects.size());
+        page.set("objects", objects);
+        return new ObjectMapper().writeValueAsBytes(page);
+    }
+
+    private static String nodeName(int node) {
+        return "conferencing-node-" + node;
+    }
+
+    private static String nodeAddress(int node) {
+        return "10.0." + node / 250 + "." + node % 250;
+    }
+
+    private static String conferenceId(int conference) {
+        return String.valueOf(100000 + conference);
+    }
+
+    private static String conferenceName(int conference) {
+        return "Virtual Meeting Room " + conference;
+    }
+}
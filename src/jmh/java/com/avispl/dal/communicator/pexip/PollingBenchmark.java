@@ -0,0 +1,77 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polling cycle paths of {@link PexipManagementNode}: conference shards joining and the merge of
+ * conferencing nodes, conferences and participants, over synthetic status API responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PollingBenchmark {
+    @Param({"10"})
+    private int nodes;
+    @Param({"100", "1000"})
+    private int conferences;
+    @Param({"10"})
+    private int participantsPerConference;
+
+    private PexipManagementNode pexipManagementNode;
+    private ArrayNode conferencingNodesObjects;
+    private Map<String, Map<String, String>> configurations;
+    private ArrayNode conferenceObjects;
+    private ArrayNode conferenceShardObjects;
+    private ArrayNode participantObjects;
+
+    @Setup
+    public void setUp() throws Exception {
+        pexipManagementNode = new PexipManagementNode();
+        pexipManagementNode.setHost("localhost");
+        pexipManagementNode.setDisplayConferencesStatistics(true);
+        pexipManagementNode.init();
+
+        conferencingNodesObjects = PexipFixtures.conferencingNodes(nodes);
+        configurations = PexipFixtures.conferencingNodesConfiguration(nodes);
+        conferenceObjects = PexipFixtures.conferences(conferences);
+        conferenceShardObjects = PexipFixtures.conferenceShards(conferences, nodes);
+        participantObjects = PexipFixtures.participants(conferences, participantsPerConference);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pexipManagementNode.destroy();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> conferencesShardJoin() {
+        return pexipManagementNode.retrieveConferencesStatus(conferenceObjects, conferenceShardObjects);
+    }
+
+    @Benchmark
+    public List<AggregatedDevice> conferencingNodesMerge() {
+        List<AggregatedDevice> conferencingNodes = pexipManagementNode.retrieveConferencingNodes(conferencingNodesObjects, configurations);
+        pexipManagementNode.applyConferencesStatistics(conferencingNodes, conferenceObjects, conferenceShardObjects, participantObjects);
+        return conferencingNodes;
+    }
+}
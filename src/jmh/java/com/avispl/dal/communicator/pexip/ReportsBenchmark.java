@@ -0,0 +1,109 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.avispl.dal.communicator.dto.api.conferences.Conference;
+import com.avispl.dal.communicator.pexip.mapping.CompiledMapping;
+import com.avispl.dal.communicator.pexip.mapping.CompiledModel;
+import com.avispl.dal.communicator.pexip.reports.CsvReportWriter;
+import com.avispl.dal.communicator.pexip.reports.ReportSpool;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reporting paths of {@link PexipManagementNode}: participant pages decoding and mapping, daily conference statistics
+ * aggregation of the major node report and CSV report writing, over synthetic status and history API responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportsBenchmark {
+    @Param({"1000", "5000"})
+    private int rows;
+
+    private CompiledModel participantModel;
+    private byte[] participantsPage;
+    private List<Map<String, String>> participantRows;
+    private List<Conference> historicalConferences;
+    private LocalDate currentMonthStart;
+    private ReportSpool reportSpool;
+
+    @Setup
+    public void setUp() throws Exception {
+        participantModel = CompiledMapping.compile(new PropertiesMappingParser().loadYML("mapping/model-mapping.yml", PexipManagementNode.class))
+                .getModel("Participant");
+        participantsPage = PexipFixtures.page(PexipFixtures.participants(rows / 10, 10));
+        participantRows = new ArrayList<>(rows);
+        ObjectsPageDecoder.decode(participantsPage, participantModel.getReferencedFields(), node -> participantRows.add(participantModel.map(node)));
+
+        currentMonthStart = LocalDate.of(2021, 6, 1);
+        LocalDate previousMonthStart = currentMonthStart.minusMonths(1);
+        historicalConferences = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Conference conference = new Conference();
+            conference.setDuration(600 + i % 3600);
+            conference.setParticipantCount(2 + i % 20);
+            conference.setEndTime(previousMonthStart.plusDays(i % 61) + "T" + String.format("%02d:%02d:00.000000", i % 24, i % 60));
+            historicalConferences.add(conference);
+        }
+        reportSpool = new ReportSpool("pexip-benchmark-");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reportSpool.close();
+    }
+
+    @Benchmark
+    public void participantsMapping(Blackhole blackhole) throws Exception {
+        ObjectsPageDecoder.decode(participantsPage, participantModel.getReferencedFields(), node -> blackhole.consume(participantModel.map(node)));
+    }
+
+    @Benchmark
+    public long majorNodeReportAggregation() {
+        ConferenceDailyStatistics currentMonth = new ConferenceDailyStatistics(currentMonthStart, currentMonthStart.plusMonths(1));
+        ConferenceDailyStatistics previousMonth = new ConferenceDailyStatistics(currentMonthStart.minusMonths(1), currentMonthStart);
+        ConferenceDailyStatistics retrieved = new ConferenceDailyStatistics(currentMonthStart.minusMonths(1), currentMonthStart.plusMonths(1));
+        for (Conference conference : historicalConferences) {
+            retrieved.add(conference);
+        }
+        currentMonth.addAll(retrieved);
+        previousMonth.addAll(retrieved);
+        return currentMonth.getTotalDuration() / Math.max(1, currentMonth.getTotalConferences())
+                - previousMonth.getTotalDuration() / Math.max(1, previousMonth.getTotalConferences());
+    }
+
+    @Benchmark
+    public long csvReportWriting() throws IOException {
+        Path file = reportSpool.createReportFile("participants");
+        try (CsvReportWriter writer = new CsvReportWriter(file, participantModel.getPropertyNames())) {
+            for (Map<String, String> row : participantRows) {
+                writer.writeRow(row);
+            }
+            return writer.getRowsCount();
+        } finally {
+            reportSpool.delete(file);
+        }
+    }
+}
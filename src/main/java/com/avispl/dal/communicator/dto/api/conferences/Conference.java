@@ -18,6 +18,8 @@ public class Conference extends BaseResponseEntity {
     private int duration;
     @JsonProperty("participant_count")
     private int participantCount;
+    @JsonProperty("end_time")
+    private String endTime;
 
     /**
      * Retrieves {@code {@link #duration}}
@@ -54,4 +56,22 @@ public class Conference extends BaseResponseEntity {
     public void setParticipantCount(int participantCount) {
         this.participantCount = participantCount;
     }
+
+    /**
+     * Retrieves {@code {@link #endTime}}
+     *
+     * @return value of {@link #endTime}
+     */
+    public String getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Sets {@code endTime}
+     *
+     * @param endTime the {@code java.lang.String} field
+     */
+    public void setEndTime(String endTime) {
+        this.endTime = endTime;
+    }
 }
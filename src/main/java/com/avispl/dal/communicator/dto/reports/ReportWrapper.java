@@ -3,24 +3,56 @@
  */
 package com.avispl.dal.communicator.dto.reports;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Report wrapper, created for transferring multiple Map entries, related to a single report, along with the
- * report name. Created mainly for future use in csv generation process.
+ * Report wrapper, created for transferring a single csv report definition: report name, column schema and
+ * the routine that streams report rows to a {@link RowWriter}. Rows are not kept in memory,
+ * the report is generated at the moment it is written to a file.
  *
  * @author Maksym.Rossiytsev / Symphony Dev Team<br>
  * @since 1.0
  * Created June 1, 2021
  */
 public class ReportWrapper {
+    /**
+     * Destination of the report rows, e.g. a csv file writer
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+        /**
+         * Write a report row
+         *
+         * @param row property name to value map
+         * @throws IOException if the row cannot be written
+         */
+        void writeRow(Map<String, String> row) throws IOException;
+    }
+
+    /**
+     * Routine that writes report rows
+     */
+    @FunctionalInterface
+    public interface ReportContent {
+        /**
+         * Write report rows
+         *
+         * @param writer row writer, with the header already written
+         * @throws Exception if any error occurs during data retrieval or writing
+         */
+        void write(RowWriter writer) throws Exception;
+    }
+
     private String reportName;
-    private List<Map<String, String>> report;
+    private List<String> columns;
+    private ReportContent content;
 
-    public ReportWrapper(String reportName, List<Map<String, String>> report) {
+    public ReportWrapper(String reportName, List<String> columns, ReportContent content) {
         this.reportName = reportName;
-        this.report = report;
+        this.columns = columns;
+        this.content = content;
     }
 
     /**
@@ -42,20 +74,38 @@ public class ReportWrapper {
     }
 
     /**
-     * Retrieves {@code {@link #report}}
+     * Retrieves {@code {@link #columns}}
+     *
+     * @return value of {@link #columns}
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Sets {@code columns}
+     *
+     * @param columns the {@code java.util.List<java.lang.String>} field
+     */
+    public void setColumns(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Retrieves {@code {@link #content}}
      *
-     * @return value of {@link #report}
+     * @return value of {@link #content}
      */
-    public List<Map<String, String>> getReport() {
-        return report;
+    public ReportContent getContent() {
+        return content;
     }
 
     /**
-     * Sets {@code report}
+     * Sets {@code content}
      *
-     * @param report the {@code java.util.List<java.util.Map<java.lang.String,java.lang.String>>} field
+     * @param content the {@code com.avispl.dal.communicator.dto.reports.ReportWrapper.ReportContent} field
      */
-    public void setReport(List<Map<String, String>> report) {
-        this.report = report;
+    public void setContent(ReportContent content) {
+        this.content = content;
     }
 }
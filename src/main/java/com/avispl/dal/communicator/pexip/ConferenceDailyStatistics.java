@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import com.avispl.dal.communicator.dto.api.conferences.Conference;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Historical conferences statistics of a period, accumulated in a single pass into per-day buckets,
+ * by the conference end date. Both daily and period totals are derived from the buckets.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class ConferenceDailyStatistics {
+    /*length of the date part of the ISO date-time (yyyy-MM-dd)*/
+    private static final int DATE_LENGTH = 10;
+
+    private final LocalDate periodStart;
+    private final long[] conferences;
+    private final long[] durations;
+    private final long[] participants;
+    /*conferences that have no valid end date, or end outside of the period, only count towards the totals*/
+    private long undatedConferences;
+    private long undatedDuration;
+    private long undatedParticipants;
+
+    /**
+     * Create statistics for a period
+     *
+     * @param periodStart first day of the period (inclusive)
+     * @param periodEnd   last day of the period (exclusive)
+     */
+    ConferenceDailyStatistics(LocalDate periodStart, LocalDate periodEnd) {
+        this.periodStart = periodStart;
+        int days = (int) Math.max(1, ChronoUnit.DAYS.between(periodStart, periodEnd));
+        conferences = new long[days];
+        durations = new long[days];
+        participants = new long[days];
+    }
+
+    /**
+     * Add conference to the bucket of the day the conference has ended at
+     *
+     * @param conference historical conference entry
+     */
+    void add(Conference conference) {
+        int day = dayIndex(conference.getEndTime());
+        if (day < 0) {
+            undatedConferences++;
+            undatedDuration += conference.getDuration();
+            undatedParticipants += conference.getParticipantCount();
+            return;
+        }
+        conferences[day]++;
+        durations[day] += conference.getDuration();
+        participants[day] += conference.getParticipantCount();
+    }
+
+    /**
+     * Add pre-aggregated values of a day, e.g. restored from {@link ConferenceRollupStore}
+     *
+     * @param date         day of the period
+     * @param conferences  number of conferences
+     * @param duration     total duration of conferences, in seconds
+     * @param participants total number of participants
+     */
+    void add(LocalDate date, long conferences, long duration, long participants) {
+        int day = dayIndex(date);
+        if (day < 0) {
+            return;
+        }
+        this.conferences[day] += conferences;
+        durations[day] += duration;
+        this.participants[day] += participants;
+    }
+
+    /**
+     * Add values of the days of {@code statistics} that belong to this period. Values without a valid end date
+     * are added only if {@code statistics} period starts within this period.
+     *
+     * @param statistics statistics to add
+     */
+    void addAll(ConferenceDailyStatistics statistics) {
+        for (int i = 0; i < statistics.conferences.length; i++) {
+            add(statistics.periodStart.plusDays(i), statistics.conferences[i], statistics.durations[i], statistics.participants[i]);
+        }
+        if (dayIndex(statistics.periodStart) >= 0) {
+            undatedConferences += statistics.undatedConferences;
+            undatedDuration += statistics.undatedDuration;
+            undatedParticipants += statistics.undatedParticipants;
+        }
+    }
+
+    /**
+     * Retrieves {@code {@link #periodStart}}
+     *
+     * @return value of {@link #periodStart}
+     */
+    LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    /**
+     * Retrieve first day after the period
+     *
+     * @return end of the period (exclusive)
+     */
+    LocalDate getPeriodEnd() {
+        return periodStart.plusDays(conferences.length);
+    }
+
+    /**
+     * Check whether all the conferences are bucketed by day
+     *
+     * @return true if there are no conferences without a valid end date within the period
+     */
+    boolean isFullyBucketed() {
+        return undatedConferences == 0;
+    }
+
+    /**
+     * Retrieve number of conferences that ended at {@code date}
+     *
+     * @param date day of the period
+     * @return number of conferences
+     */
+    long getConferences(LocalDate date) {
+        int day = dayIndex(date);
+        return day < 0 ? 0 : conferences[day];
+    }
+
+    /**
+     * Retrieve total duration of conferences that ended at {@code date}
+     *
+     * @param date day of the period
+     * @return duration, in seconds
+     */
+    long getDuration(LocalDate date) {
+        int day = dayIndex(date);
+        return day < 0 ? 0 : durations[day];
+    }
+
+    /**
+     * Retrieve total number of participants of conferences that ended at {@code date}
+     *
+     * @param date day of the period
+     * @return number of participants
+     */
+    long getParticipants(LocalDate date) {
+        int day = dayIndex(date);
+        return day < 0 ? 0 : participants[day];
+    }
+
+    /**
+     * Retrieve number of conferences of the period
+     *
+     * @return number of conferences
+     */
+    long getTotalConferences() {
+        return sum(conferences) + undatedConferences;
+    }
+
+    /**
+     * Retrieve total duration of conferences of the period
+     *
+     * @return duration, in seconds
+     */
+    long getTotalDuration() {
+        return sum(durations) + undatedDuration;
+    }
+
+    /**
+     * Retrieve total number of participants of conferences of the period
+     *
+     * @return number of participants
+     */
+    long getTotalParticipants() {
+        return sum(participants) + undatedParticipants;
+    }
+
+    /**
+     * Retrieve bucket index for the ISO date-time value
+     *
+     * @param dateTime ISO date-time, as provided by Pexip API (e.g. 2021-06-01T10:15:30.123456)
+     * @return bucket index or -1 if the value is not valid or is outside of the period
+     */
+    private int dayIndex(String dateTime) {
+        if (dateTime == null || dateTime.length() < DATE_LENGTH) {
+            return -1;
+        }
+        try {
+            return dayIndex(LocalDate.parse(dateTime.substring(0, DATE_LENGTH)));
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Retrieve bucket index for the date
+     *
+     * @param date day of the period
+     * @return bucket index or -1 if the date is outside of the period
+     */
+    private int dayIndex(LocalDate date) {
+        long day = ChronoUnit.DAYS.between(periodStart, date);
+        return day < 0 || day >= conferences.length ? -1 : (int) day;
+    }
+
+    /**
+     * Sum bucket values
+     *
+     * @param buckets values by day
+     * @return sum of the values
+     */
+    private static long sum(long[] buckets) {
+        long total = 0;
+        for (long value : buckets) {
+            total += value;
+        }
+        return total;
+    }
+}
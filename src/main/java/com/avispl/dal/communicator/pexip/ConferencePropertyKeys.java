@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Property keys and controls of a single conference group (Conference:name#...), built once when the
+ * conference first appears and reused for as long as the conference is active.
+ * Not thread safe, expected to be used by the statistics collector only.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class ConferencePropertyKeys {
+    private final String groupPrefix;
+    private final Map<String, String> keys = new HashMap<>();
+    private final String participantsCountKey;
+    private final String disconnectKey;
+    private final String participantLogsKey;
+    private final AdvancedControllableProperty disconnectButton;
+    private final AdvancedControllableProperty participantLogsButton;
+    private final AdvancedControllableProperty disconnectParticipantsButton;
+
+    /**
+     * Create conference group keys
+     *
+     * @param groupPrefix                  conference group prefix, Conference:name#
+     * @param disconnectButton             conference disconnect button
+     * @param participantLogsButton        conference participant logs button
+     * @param disconnectParticipantsButton button that disconnects all the participants of the conference
+     */
+    ConferencePropertyKeys(String groupPrefix, AdvancedControllableProperty disconnectButton, AdvancedControllableProperty participantLogsButton,
+                           AdvancedControllableProperty disconnectParticipantsButton) {
+        this.groupPrefix = groupPrefix;
+        this.participantsCountKey = groupPrefix + "ParticipantsCount";
+        this.disconnectKey = disconnectButton.getName();
+        this.participantLogsKey = participantLogsButton.getName();
+        this.disconnectButton = disconnectButton;
+        this.participantLogsButton = participantLogsButton;
+        this.disconnectParticipantsButton = disconnectParticipantsButton;
+    }
+
+    /**
+     * Retrieve group key of the conference property
+     *
+     * @param property conference property name
+     * @return Conference:name#property key
+     */
+    String key(String property) {
+        String key = keys.get(property);
+        if (key == null) {
+            key = groupPrefix + property;
+            keys.put(property, key);
+        }
+        return key;
+    }
+
+    /**
+     * Retrieves {@code {@link #participantsCountKey}}
+     *
+     * @return value of {@link #participantsCountKey}
+     */
+    String getParticipantsCountKey() {
+        return participantsCountKey;
+    }
+
+    /**
+     * Retrieves {@code {@link #disconnectKey}}
+     *
+     * @return value of {@link #disconnectKey}
+     */
+    String getDisconnectKey() {
+        return disconnectKey;
+    }
+
+    /**
+     * Retrieves {@code {@link #participantLogsKey}}
+     *
+     * @return value of {@link #participantLogsKey}
+     */
+    String getParticipantLogsKey() {
+        return participantLogsKey;
+    }
+
+    /**
+     * Retrieves {@code {@link #disconnectButton}}
+     *
+     * @return value of {@link #disconnectButton}
+     */
+    AdvancedControllableProperty getDisconnectButton() {
+        return disconnectButton;
+    }
+
+    /**
+     * Retrieves {@code {@link #participantLogsButton}}
+     *
+     * @return value of {@link #participantLogsButton}
+     */
+    AdvancedControllableProperty getParticipantLogsButton() {
+        return participantLogsButton;
+    }
+
+    /**
+     * Retrieves {@code {@link #disconnectParticipantsButton}}
+     *
+     * @return value of {@link #disconnectParticipantsButton}
+     */
+    AdvancedControllableProperty getDisconnectParticipantsButton() {
+        return disconnectParticipantsButton;
+    }
+}
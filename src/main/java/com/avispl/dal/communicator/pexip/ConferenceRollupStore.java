@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * File-backed store of per-day conference rollups: number of conferences, total duration and total number
+ * of participants of the conferences that ended on a given day. Only full past days are stored, since
+ * the history of a day does not change once the day is over. Days are UTC days, as Pexip end_time values are UTC,
+ * so a day that is over locally, but not in UTC, is neither stored nor restored.
+ * Rollups are kept in a single csv file (date,conferences,duration,participants), which is loaded on first access
+ * and rewritten atomically on every update.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class ConferenceRollupStore {
+    private static final String FILE_NAME = "conferences.csv";
+    private static final String HEADER = "date,conferences,duration,participants";
+    private static final String SEPARATOR = ",";
+
+    private final Path directory;
+    private final Path file;
+    private final Clock clock;
+    /*rollup values (conferences, duration, participants) by day, loaded lazily*/
+    private Map<LocalDate, long[]> rollups;
+
+    /**
+     * Create rollup store. The directory is created on the first update.
+     *
+     * @param directory directory to keep the rollups file in
+     */
+    ConferenceRollupStore(Path directory) {
+        this(directory, Clock.systemUTC());
+    }
+
+    /**
+     * Create rollup store. The directory is created on the first update.
+     *
+     * @param directory directory to keep the rollups file in
+     * @param clock     clock to tell the full past days by
+     */
+    ConferenceRollupStore(Path directory, Clock clock) {
+        this.directory = directory;
+        this.file = directory.resolve(FILE_NAME);
+        this.clock = clock;
+    }
+
+    /**
+     * Add rollup of the day to {@code statistics}, if the day is rolled up
+     *
+     * @param day        day to restore
+     * @param statistics statistics to add the rollup to
+     * @return true if the day is rolled up, false otherwise
+     * @throws IOException if the rollups file cannot be read
+     */
+    synchronized boolean restore(LocalDate day, ConferenceDailyStatistics statistics) throws IOException {
+        if (!day.isBefore(currentDay())) {
+            return false;
+        }
+        long[] rollup = rollups().get(day);
+        if (rollup == null) {
+            return false;
+        }
+        statistics.add(day, rollup[0], rollup[1], rollup[2]);
+        return true;
+    }
+
+    /**
+     * Store rollups of the days of {@code statistics}, including days without conferences.
+     * Days that are not over in UTC yet are skipped.
+     *
+     * @param statistics statistics of full past days
+     * @throws IOException if the rollups file cannot be written
+     */
+    synchronized void store(ConferenceDailyStatistics statistics) throws IOException {
+        Map<LocalDate, long[]> currentRollups = rollups();
+        LocalDate currentDay = currentDay();
+        for (LocalDate day = statistics.getPeriodStart(); day.isBefore(statistics.getPeriodEnd()) && day.isBefore(currentDay); day = day.plusDays(1)) {
+            currentRollups.put(day, new long[]{statistics.getConferences(day), statistics.getDuration(day), statistics.getParticipants(day)});
+        }
+        persist(currentRollups);
+    }
+
+    /**
+     * Retrieve current UTC day, days before it are over
+     *
+     * @return current UTC day
+     */
+    private LocalDate currentDay() {
+        return LocalDate.now(clock.withZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * Retrieve rollups, loading them from the file on first access
+     *
+     * @return rollups by day
+     * @throws IOException if the rollups file cannot be read
+     */
+    private Map<LocalDate, long[]> rollups() throws IOException {
+        if (rollups != null) {
+            return rollups;
+        }
+        Map<LocalDate, long[]> loadedRollups = new TreeMap<>();
+        if (Files.isRegularFile(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] values = line.split(SEPARATOR);
+                    if (values.length != 4 || HEADER.equals(line)) {
+                        continue;
+                    }
+                    try {
+                        loadedRollups.put(LocalDate.parse(values[0]),
+                                new long[]{Long.parseLong(values[1]), Long.parseLong(values[2]), Long.parseLong(values[3])});
+                    } catch (DateTimeParseException | NumberFormatException e) {
+                        // Malformed line is skipped, the day will be retrieved from the Management Node again
+                    }
+                }
+            }
+        }
+        rollups = loadedRollups;
+        return rollups;
+    }
+
+    /**
+     * Rewrite the rollups file: rollups are written to a temp file, which then replaces the current one
+     *
+     * @param currentRollups rollups to write
+     * @throws IOException if the file cannot be written
+     */
+    private void persist(Map<LocalDate, long[]> currentRollups) throws IOException {
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, FILE_NAME, ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                for (Map.Entry<LocalDate, long[]> rollup : currentRollups.entrySet()) {
+                    long[] values = rollup.getValue();
+                    writer.newLine();
+                    writer.write(rollup.getKey() + SEPARATOR + values[0] + SEPARATOR + values[1] + SEPARATOR + values[2]);
+                }
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable name to id lookup index of the active conferences and participants, used by control operations.
+ * Participants are looked up by participant id, by conference name and display name ({@code <conference>:<display name>})
+ * or by display name alone, when it is unique among the active participants.
+ * A new index is built by every statistics collection cycle and published as a whole, so control operations
+ * always see a consistent index of a single cycle.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class ControlIndex {
+    static final ControlIndex EMPTY = new ControlIndex(Collections.emptyMap(), Collections.emptyMap(),
+            Collections.emptyMap(), Collections.emptyMap());
+
+    private final Map<String, String> conferenceIds;
+    private final Map<String, List<String>> participantIds;
+    private final Map<String, List<String>> conferenceIdsByNode;
+    private final Map<String, List<String>> participantIdsByConference;
+
+    /**
+     * Create control index
+     *
+     * @param conferenceIds              conference ids by conference name
+     * @param participantIds             participant ids by participant id, {@code <conference>:<display name>} and display name
+     * @param conferenceIdsByNode        ids of the conferences, running on a conferencing node, by node device id
+     * @param participantIdsByConference ids of the participants of a conference, by conference name
+     */
+    ControlIndex(Map<String, String> conferenceIds, Map<String, List<String>> participantIds,
+                 Map<String, List<String>> conferenceIdsByNode, Map<String, List<String>> participantIdsByConference) {
+        this.conferenceIds = Collections.unmodifiableMap(new HashMap<>(conferenceIds));
+        this.participantIds = Collections.unmodifiableMap(new HashMap<>(participantIds));
+        this.conferenceIdsByNode = Collections.unmodifiableMap(new HashMap<>(conferenceIdsByNode));
+        this.participantIdsByConference = Collections.unmodifiableMap(new HashMap<>(participantIdsByConference));
+    }
+
+    /**
+     * Retrieve id of the conference
+     *
+     * @param conferenceName name of the conference
+     * @return conference id or null if there's no such active conference
+     */
+    String getConferenceId(String conferenceName) {
+        return conferenceIds.get(conferenceName);
+    }
+
+    /**
+     * Retrieve id of the participant
+     *
+     * @param participantKey participant id, {@code <conference>:<display name>} or display name of the participant
+     * @return participant id or null if there's no such active participant
+     * @throws IllegalArgumentException if more than one active participant matches the key
+     */
+    String getParticipantId(String participantKey) {
+        List<String> ids = participantIds.get(participantKey);
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        if (ids.size() > 1) {
+            throw new IllegalArgumentException(String.format("Participant %s is ambiguous, %s active participants match it, "
+                    + "use <conference>:<display name> or participant id instead", participantKey, ids.size()));
+        }
+        return ids.get(0);
+    }
+
+    /**
+     * Retrieve ids of the conferences, running on a conferencing node
+     *
+     * @param deviceId conferencing node device id
+     * @return conference ids, empty if there are no active conferences on the node
+     */
+    List<String> getConferenceIdsByNode(String deviceId) {
+        return conferenceIdsByNode.getOrDefault(deviceId, Collections.emptyList());
+    }
+
+    /**
+     * Retrieve ids of the participants of a conference
+     *
+     * @param conferenceName name of the conference
+     * @return participant ids, empty if there are no active participants in the conference
+     */
+    List<String> getParticipantIdsByConference(String conferenceName) {
+        return participantIdsByConference.getOrDefault(conferenceName, Collections.emptyList());
+    }
+}
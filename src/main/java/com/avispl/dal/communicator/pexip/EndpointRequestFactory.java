@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.AuthCache;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.auth.BasicScheme;
+import org.apache.http.impl.client.BasicAuthCache;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+
+/**
+ * Request factory of the Management Node API, based on the pooled HttpClient of the communicator.
+ * Every request gets its own {@link HttpClientContext}, so concurrent requests do not share the context state,
+ * with the {@link RequestConfig} of its endpoint class: status, history or command API.
+ * Basic authentication is preemptive, so pooled keep-alive connections are reused without a 401 round-trip.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class EndpointRequestFactory extends HttpComponentsClientHttpRequestFactory {
+    private static final String HISTORY_PATH = "/history/";
+    private static final String COMMAND_PATH = "/command/";
+
+    private final AuthCache authCache;
+    private final RequestConfig statusRequestConfig;
+    private final RequestConfig historyRequestConfig;
+    private final RequestConfig commandRequestConfig;
+
+    /**
+     * Create request factory
+     *
+     * @param httpClient           pooled HttpClient of the communicator
+     * @param target               Management Node host, basic authentication is preemptive for it if not null
+     * @param statusRequestConfig  config of the status and configuration API requests
+     * @param historyRequestConfig config of the history API requests
+     * @param commandRequestConfig config of the command API requests
+     */
+    EndpointRequestFactory(HttpClient httpClient, HttpHost target, RequestConfig statusRequestConfig,
+                           RequestConfig historyRequestConfig, RequestConfig commandRequestConfig) {
+        super(httpClient);
+        this.statusRequestConfig = statusRequestConfig;
+        this.historyRequestConfig = historyRequestConfig;
+        this.commandRequestConfig = commandRequestConfig;
+        authCache = new BasicAuthCache();
+        if (target != null) {
+            authCache.put(target, new BasicScheme());
+        }
+    }
+
+    /**
+     * Retrieves request config of the endpoint class of the uri
+     *
+     * @param uri request uri
+     * @return {@link RequestConfig} of the endpoint class
+     */
+    RequestConfig getRequestConfig(URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return statusRequestConfig;
+        }
+        if (path.contains(HISTORY_PATH)) {
+            return historyRequestConfig;
+        }
+        if (path.contains(COMMAND_PATH)) {
+            return commandRequestConfig;
+        }
+        return statusRequestConfig;
+    }
+
+    @Override
+    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+        HttpClientContext context = HttpClientContext.create();
+        context.setAuthCache(authCache);
+        context.setRequestConfig(getRequestConfig(uri));
+        return context;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Disk cache of the Pexip history API objects of full past days, keyed by history endpoint and day.
+ * History of a past day does not change, so once a day is retrieved, it is not requested from the Management
+ * Node again, as long as it is in the cache. Days are UTC days, as Pexip end_time values are UTC, and a day is only
+ * cached once it has been over in UTC for {@link #SAFETY_MARGIN}, see {@link #isCacheable(LocalDate)}. Objects are kept as gzip compressed json lines,
+ * one file per endpoint and day. Cache size is limited, least recently used days are evicted first;
+ * file modification time is used as the access time, so the eviction order survives adapter restarts.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class HistoryCache {
+    private static final String FILE_SUFFIX = ".json.gz";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    /*time after the UTC end of a day, during which the day is not cached, in case of clock skew or late history records*/
+    private static final Duration SAFETY_MARGIN = Duration.ofHours(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path directory;
+    private final long maxSize;
+    private final Clock clock;
+    /*cached file sizes by file, in access order, loaded lazily*/
+    private Map<Path, Long> entries;
+    private long size;
+
+    /**
+     * Create history cache
+     *
+     * @param directory directory to keep cached days in
+     * @param maxSize   max total size of the cached files, bytes
+     */
+    HistoryCache(Path directory, long maxSize) {
+        this(directory, maxSize, Clock.systemUTC());
+    }
+
+    /**
+     * Create history cache
+     *
+     * @param directory directory to keep cached days in
+     * @param maxSize   max total size of the cached files, bytes
+     * @param clock     clock to tell the full past days by
+     */
+    HistoryCache(Path directory, long maxSize, Clock clock) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Check whether the day is over in UTC, at least {@link #SAFETY_MARGIN} ago, so its history is complete
+     *
+     * @param day UTC day
+     * @return true if the day can be cached
+     */
+    boolean isCacheable(LocalDate day) {
+        return !day.plusDays(1).atStartOfDay().plus(SAFETY_MARGIN).isAfter(LocalDateTime.now(clock.withZone(ZoneOffset.UTC)));
+    }
+
+    /**
+     * Retrieve cached day
+     *
+     * @param endpoint history endpoint name
+     * @param day      day to retrieve
+     * @return cached file or null if the day is not cached
+     * @throws IOException if the cache directory cannot be read
+     */
+    synchronized Path get(String endpoint, LocalDate day) throws IOException {
+        if (!isCacheable(day)) {
+            return null;
+        }
+        Path file = file(endpoint, day);
+        if (entries().get(file) == null) {
+            return null;
+        }
+        if (!Files.isRegularFile(file)) {
+            size -= entries.remove(file);
+            return null;
+        }
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        return file;
+    }
+
+    /**
+     * Read cached objects
+     *
+     * @param file     file, retrieved with {@link #get(String, LocalDate)}
+     * @param consumer consumer of the cached objects
+     * @throws IOException if the file cannot be read
+     */
+    void read(Path file, Consumer<JsonNode> consumer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                consumer.accept(objectMapper.readTree(line));
+            }
+        }
+    }
+
+    /**
+     * Open writer of a day. The day becomes available in the cache once {@link Writer#commit()} is called.
+     *
+     * @param endpoint history endpoint name
+     * @param day      day to write
+     * @return {@link Writer} instance
+     * @throws IOException           if the file cannot be created
+     * @throws IllegalStateException if the day is not {@link #isCacheable(LocalDate)}
+     */
+    Writer openWriter(String endpoint, LocalDate day) throws IOException {
+        if (!isCacheable(day)) {
+            throw new IllegalStateException("History of " + day + " is not complete yet, unable to cache it");
+        }
+        Path file = file(endpoint, day);
+        Files.createDirectories(file.getParent());
+        return new Writer(file, Files.createTempFile(file.getParent(), day.toString(), TEMP_FILE_SUFFIX));
+    }
+
+    /**
+     * Writer of a single cached day
+     */
+    final class Writer implements Closeable {
+        private final Path file;
+        private final Path tempFile;
+        private final BufferedWriter writer;
+        private boolean committed;
+
+        private Writer(Path file, Path tempFile) throws IOException {
+            this.file = file;
+            this.tempFile = tempFile;
+            writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Write history object
+         *
+         * @param node history api object
+         * @throws IOException if the object cannot be written
+         */
+        void write(JsonNode node) throws IOException {
+            writer.write(objectMapper.writeValueAsString(node));
+            writer.newLine();
+        }
+
+        /**
+         * Finish writing and add the day to the cache
+         *
+         * @throws IOException if the file cannot be written or moved to the cache
+         */
+        void commit() throws IOException {
+            writer.close();
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            committed = true;
+            register(file, Files.size(file));
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                writer.close();
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Add file to the cache index and evict least recently used files, if the cache size exceeds {@link #maxSize}
+     *
+     * @param file     cached file
+     * @param fileSize size of the file
+     * @throws IOException if the cache directory cannot be read
+     */
+    private synchronized void register(Path file, long fileSize) throws IOException {
+        Long previousSize = entries().put(file, fileSize);
+        size += fileSize - (previousSize == null ? 0 : previousSize);
+        Iterator<Map.Entry<Path, Long>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<Path, Long> entry = iterator.next();
+            if (entry.getKey().equals(file)) {
+                continue;
+            }
+            iterator.remove();
+            size -= entry.getValue();
+            try {
+                Files.deleteIfExists(entry.getKey());
+            } catch (IOException e) {
+                // File is in use, it is not tracked anymore and is going to be overwritten on the next retrieval
+            }
+        }
+    }
+
+    /**
+     * Retrieve cache index, loading it from the cache directory on first access
+     *
+     * @return cached file sizes by file, least recently used first
+     * @throws IOException if the cache directory cannot be read
+     */
+    private Map<Path, Long> entries() throws IOException {
+        if (entries != null) {
+            return entries;
+        }
+        Map<Path, Long> loadedEntries = new LinkedHashMap<>(16, 0.75f, true);
+        long loadedSize = 0;
+        if (Files.isDirectory(directory)) {
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(directory, 2)) {
+                files = paths.filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX) && Files.isRegularFile(path))
+                        .collect(Collectors.toCollection(ArrayList::new));
+            }
+            Map<Path, FileTime> accessTimes = new HashMap<>();
+            for (Path file : files) {
+                accessTimes.put(file, Files.getLastModifiedTime(file));
+            }
+            files.sort(Comparator.comparing(accessTimes::get));
+            for (Path file : files) {
+                long fileSize = Files.size(file);
+                loadedEntries.put(file, fileSize);
+                loadedSize += fileSize;
+            }
+        }
+        entries = loadedEntries;
+        size = loadedSize;
+        return entries;
+    }
+
+    /**
+     * Retrieve cache file of a day
+     *
+     * @param endpoint history endpoint name
+     * @param day      day of the history
+     * @return cache file path
+     */
+    private Path file(String endpoint, LocalDate day) {
+        return directory.resolve(endpoint).resolve(day + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the Management Node licensing data, mapped with both NodeLicensing (statistics) and
+ * NodeLicensingReport (email report) models, so licensing statistics and licensing reports share a single
+ * licensing request and mapping.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class LicensingSnapshot {
+    private final long timestamp;
+    private final Map<String, String> statistics;
+    private final Map<String, String> report;
+
+    LicensingSnapshot(Map<String, String> statistics, Map<String, String> report) {
+        this.timestamp = System.currentTimeMillis();
+        this.statistics = Collections.unmodifiableMap(new HashMap<>(statistics));
+        this.report = Collections.unmodifiableMap(new HashMap<>(report));
+    }
+
+    /**
+     * Check whether the snapshot is older than {@code ttl}
+     *
+     * @param ttl time to live of the snapshot, ms
+     * @return true if the snapshot has expired, false otherwise
+     */
+    boolean isExpired(long ttl) {
+        return System.currentTimeMillis() - timestamp >= ttl;
+    }
+
+    /**
+     * Retrieves {@code {@link #statistics}}
+     *
+     * @return value of {@link #statistics}
+     */
+    Map<String, String> getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Retrieves {@code {@link #report}}
+     *
+     * @return value of {@link #report}
+     */
+    Map<String, String> getReport() {
+        return report;
+    }
+}
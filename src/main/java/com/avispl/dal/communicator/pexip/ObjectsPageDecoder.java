@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Token streaming decoder of a single page of the Management Node API response:
+ * <pre>{"meta": {"next": "...", ...}, "objects": [{...}, ...]}</pre>
+ * Response objects are handed over to the consumer one at a time, as soon as they are decoded, and only the
+ * requested fields of every object are materialized, all the other fields are skipped on the token level.
+ * So the page is never built as a {@link JsonNode} tree, which is several times larger than the raw response.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class ObjectsPageDecoder {
+    /**
+     * Consumer of a single response object
+     */
+    @FunctionalInterface
+    interface ObjectConsumer {
+        /**
+         * Process next response object
+         *
+         * @param object response object, containing the requested fields only
+         * @throws Exception if any error occurs during object processing
+         */
+        void accept(ObjectNode object) throws Exception;
+    }
+
+    private static final String META = "meta";
+    private static final String NEXT = "next";
+    private static final String OBJECTS = "objects";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ObjectsPageDecoder() {
+    }
+
+    /**
+     * Decode response page
+     *
+     * @param body     response body
+     * @param fields   names of the object fields to materialize, or null to materialize all the fields
+     * @param consumer to process response objects
+     * @return next page link, or null if there is none
+     * @throws Exception if the response cannot be parsed or an object cannot be processed
+     */
+    static String decode(byte[] body, Set<String> fields, ObjectConsumer consumer) throws Exception {
+        String next = null;
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (OBJECTS.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    decodeObjects(parser, fields, consumer);
+                } else if (META.equals(fieldName) && value == JsonToken.START_OBJECT) {
+                    next = decodeNextLink(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Decode objects array, parser is expected to be positioned at the array start
+     *
+     * @param parser   response parser
+     * @param fields   names of the object fields to materialize, or null to materialize all the fields
+     * @param consumer to process response objects
+     * @throws Exception if the response cannot be parsed or an object cannot be processed
+     */
+    private static void decodeObjects(JsonParser parser, Set<String> fields, ObjectConsumer consumer) throws Exception {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            ObjectNode object = JsonNodeFactory.instance.objectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fields == null || fields.contains(fieldName)) {
+                    object.set(fieldName, parser.readValueAsTree());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            consumer.accept(object);
+        }
+    }
+
+    /**
+     * Decode next page link of the meta object, parser is expected to be positioned at the object start
+     *
+     * @param parser response parser
+     * @return next page link, or null if there is none
+     * @throws IOException if the response cannot be parsed
+     */
+    private static String decodeNextLink(JsonParser parser) throws IOException {
+        String next = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (NEXT.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                next = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return next;
+    }
+}
@@ -4,8 +4,17 @@
 package com.avispl.dal.communicator.pexip;
 
 import com.avispl.dal.communicator.dto.reports.ReportWrapper;
+import com.avispl.dal.communicator.dto.api.entities.BaseResponseEntity;
 import com.avispl.dal.communicator.dto.api.entities.ManagementNodeResponse;
+import com.avispl.dal.communicator.dto.api.entities.Meta;
 import com.avispl.dal.communicator.dto.api.conferences.Conference;
+import com.avispl.dal.communicator.pexip.mapping.CompiledMapping;
+import com.avispl.dal.communicator.pexip.mapping.CompiledModel;
+import com.avispl.dal.communicator.pexip.metrics.AdapterMetrics;
+import com.avispl.dal.communicator.pexip.metrics.FlightRecorderEvents;
+import com.avispl.dal.communicator.pexip.metrics.MetricsInterceptor;
+import com.avispl.dal.communicator.pexip.reports.CsvReportWriter;
+import com.avispl.dal.communicator.pexip.reports.ReportSpool;
 import com.avispl.symphony.api.dal.control.Controller;
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
@@ -21,8 +30,19 @@ import com.avispl.symphony.dal.communicator.RestCommunicator;
 import com.avispl.symphony.dal.util.StringUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.CookieSpecs;
+import org.apache.http.client.config.RequestConfig;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.mail.SimpleMailMessage;
@@ -34,14 +54,20 @@ import org.springframework.web.client.RestTemplate;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Device Aggregator communicator for Pexip Management Node
@@ -54,11 +80,268 @@ import java.util.stream.Collectors;
  * - Conferencing Nodes have an option of exporting list of active conference's participants as csv over email (requires SMTP setup)
  * - Management Node extended properties contain licensing information and port data
  * - Management Node has extra options of exporting licencing reports, since-date reports and monthly reports over email (requires SMTP setup)
+ * - Conferencing Nodes statistics are collected by a background thread, Symphony receives the latest collected snapshot
  *
  * @author Maksym.Rossiytsev
  * @since Symphony 5.1
  */
 public class PexipManagementNode extends RestCommunicator implements Monitorable, Controller, Aggregator {
+    /**
+     * Process that is running constantly and triggers collecting data from Pexip Management Node API endpoints,
+     * so {@link #retrieveMultipleStatistics()} is able to return the latest collected snapshot without having to
+     * wait for the chain of Pexip API requests to complete.
+     */
+    class PexipStatisticsCollector implements Runnable {
+        private volatile boolean inProgress;
+
+        public PexipStatisticsCollector() {
+            inProgress = true;
+        }
+
+        @Override
+        public void run() {
+            mainloop:
+            while (inProgress) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(500);
+                } catch (InterruptedException e) {
+                    // Ignore for now
+                }
+
+                if (!inProgress) {
+                    break mainloop;
+                }
+
+                // next line will determine whether Pexip Management Node monitoring was paused
+                updateCollectorPausedState();
+                if (collectorPaused) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Pexip statistics collector is paused, skipping the polling cycle.");
+                    }
+                    continue mainloop;
+                }
+
+                try {
+                    long cycleStart = System.currentTimeMillis();
+                    List<AggregatedDevice> conferencingNodes = collectConferencingNodesStatistics();
+                    int changedConferencingNodes = updateAggregatedDevicesSnapshot(conferencingNodes);
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(String.format("Pexip statistics snapshot is updated with %s conferencing nodes (%s changed) in %sms",
+                                conferencingNodes.size(), changedConferencingNodes, System.currentTimeMillis() - cycleStart));
+                    }
+                } catch (Exception e) {
+                    logger.error("Error occurred during Pexip statistics collection cycle, keeping the previous snapshot.", e);
+                }
+
+                if (!inProgress) {
+                    break mainloop;
+                }
+
+                nextStatisticsCollectionTimestamp = System.currentTimeMillis() + statisticsPollingInterval;
+                while (nextStatisticsCollectionTimestamp > System.currentTimeMillis()) {
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(1000);
+                    } catch (InterruptedException e) {
+                        // Ignore
+                    }
+                    if (!inProgress) {
+                        break mainloop;
+                    }
+                }
+            }
+            // Finished collecting
+        }
+
+        /**
+         * Triggers main loop to stop
+         */
+        public void stop() {
+            inProgress = false;
+        }
+    }
+
+    /**
+     * Historical report data, split into consecutive time slices. Slices are fetched with bounded parallelism
+     * on {@link #reportRequestsExecutorService}, so reports never hold the threads the polling cycle uses:
+     * at most {@link #reportConcurrentRequestsLimit} slices are requested ahead of the slice that is being written,
+     * so both the number of in-flight requests and the number of buffered rows stay bounded. Slices are written in time order, regardless of the order the responses arrive in.
+     * Slices never cross midnight. Full past days are retrieved as a single slice each, which is served from
+     * {@link #historyCache}, if available.
+     */
+    private final class HistoricalReportStream {
+        private final String uriTemplate;
+        private final String endpoint;
+        private final CompiledModel model;
+        private final List<LocalDateTime> sliceBoundaries;
+        private final Deque<Future<List<Map<String, String>>>> pendingSlices = new ArrayDeque<>();
+        private int nextSlice;
+
+        /**
+         * Create historical report stream and submit the first slices
+         *
+         * @param uriTemplate historical data uri, with limit, start and end placeholders
+         * @param endpoint    history endpoint name, used as a {@link #historyCache} key
+         * @param model       model to map response objects with
+         * @param dateFrom    start of the reporting period (inclusive)
+         * @param dateTo      end of the reporting period (exclusive)
+         */
+        HistoricalReportStream(String uriTemplate, String endpoint, CompiledModel model, LocalDateTime dateFrom, LocalDateTime dateTo) {
+            this.uriTemplate = uriTemplate;
+            this.endpoint = endpoint;
+            this.model = model;
+            sliceBoundaries = new ArrayList<>();
+            LocalDateTime boundary = dateFrom;
+            while (boundary.isBefore(dateTo)) {
+                sliceBoundaries.add(boundary);
+                LocalDateTime nextDayStart = boundary.toLocalDate().plusDays(1).atStartOfDay();
+                LocalDateTime nextBoundary = boundary.plusHours(Math.max(1, historicalReportSliceHours));
+                if (historyCache != null && isFullDay(boundary, nextDayStart) && !nextDayStart.isAfter(dateTo)
+                        && historyCache.isCacheable(boundary.toLocalDate())) {
+                    nextBoundary = nextDayStart;
+                }
+                boundary = nextBoundary.isBefore(nextDayStart) ? nextBoundary : nextDayStart;
+            }
+            sliceBoundaries.add(dateTo);
+            submitSlices();
+        }
+
+        /**
+         * Write all slices to the report, in time order
+         *
+         * @param writer report writer
+         * @throws Exception if any slice cannot be retrieved or written
+         */
+        void writeTo(ReportWrapper.RowWriter writer) throws Exception {
+            try {
+                while (!pendingSlices.isEmpty()) {
+                    List<Map<String, String>> rows = awaitResponse(pendingSlices.poll());
+                    submitSlices();
+                    for (Map<String, String> row : rows) {
+                        writer.writeRow(row);
+                    }
+                }
+            } finally {
+                cancel();
+            }
+        }
+
+        /**
+         * Cancel slices that are not retrieved yet
+         */
+        void cancel() {
+            Future<List<Map<String, String>>> slice;
+            while ((slice = pendingSlices.poll()) != null) {
+                slice.cancel(true);
+            }
+            nextSlice = sliceBoundaries.size();
+        }
+
+        /**
+         * Submit next slices, until {@link #reportConcurrentRequestsLimit} slices are pending
+         */
+        private void submitSlices() {
+            while (pendingSlices.size() < Math.max(1, reportConcurrentRequestsLimit) && nextSlice < sliceBoundaries.size() - 1) {
+                LocalDateTime sliceStart = sliceBoundaries.get(nextSlice);
+                LocalDateTime sliceEnd = sliceBoundaries.get(nextSlice + 1);
+                pendingSlices.add(reportRequestsExecutorService.submit(() -> retrieveSlice(sliceStart, sliceEnd)));
+                nextSlice++;
+            }
+        }
+
+        /**
+         * Retrieve a single slice. Full past days are read from the {@link #historyCache} if cached, and are
+         * cached once retrieved otherwise.
+         *
+         * @param sliceStart start of the slice (inclusive)
+         * @param sliceEnd   end of the slice (exclusive)
+         * @return report rows of the slice
+         * @throws Exception if any error occurs during slice retrieval
+         */
+        private List<Map<String, String>> retrieveSlice(LocalDateTime sliceStart, LocalDateTime sliceEnd) throws Exception {
+            String uri = String.format(uriTemplate, responsePageSize, sliceStart, sliceEnd);
+            List<Map<String, String>> rows = new ArrayList<>();
+            HistoryCache cache = historyCache;
+            if (cache == null || !isFullDay(sliceStart, sliceEnd) || !cache.isCacheable(sliceStart.toLocalDate())) {
+                fetchObjects(uri, model.getReferencedFields(), node -> rows.add(model.map(node)));
+                return rows;
+            }
+
+            LocalDate day = sliceStart.toLocalDate();
+            Path cachedDay = cache.get(endpoint, day);
+            if (cachedDay != null) {
+                try {
+                    cache.read(cachedDay, node -> rows.add(model.map(node)));
+                    return rows;
+                } catch (IOException e) {
+                    logger.warn("Unable to read cached " + endpoint + " history of " + day + ", requesting it again.", e);
+                    rows.clear();
+                }
+            }
+            try (HistoryCache.Writer cacheWriter = cache.openWriter(endpoint, day)) {
+                // Cached objects are kept complete, so the cache stays valid if the mapping is changed
+                fetchObjects(uri, null, node -> {
+                    cacheWriter.write(node);
+                    rows.add(model.map(node));
+                });
+                cacheWriter.commit();
+            }
+            return rows;
+        }
+
+        /**
+         * Check whether the slice covers exactly one calendar day
+         *
+         * @param sliceStart start of the slice (inclusive)
+         * @param sliceEnd   end of the slice (exclusive)
+         * @return true if the slice starts at midnight and lasts for a day
+         */
+        private boolean isFullDay(LocalDateTime sliceStart, LocalDateTime sliceEnd) {
+            return sliceStart.toLocalTime().equals(LocalTime.MIDNIGHT) && sliceEnd.equals(sliceStart.plusDays(1));
+        }
+    }
+
+    /**
+     * Change of a conferencing node since the previous snapshot
+     */
+    private enum DeviceChange {
+        /*nothing has changed*/
+        NONE,
+        /*only VOLATILE_PROPERTIES have changed*/
+        VOLATILE,
+        /*name, status, controls or non-volatile properties have changed*/
+        SIGNIFICANT
+    }
+
+    /**
+     * Disconnect command of a single conference or participant, see {@link #disconnectAll(String, List, DisconnectCommand)}
+     */
+    @FunctionalInterface
+    interface DisconnectCommand {
+        /**
+         * Disconnect conference or participant
+         *
+         * @param id conference or participant id
+         * @throws Exception if any error occurs
+         */
+        void disconnect(String id) throws Exception;
+    }
+
+    /**
+     * Consumer of a single page of Pexip API response objects, see {@link #fetchPages(String, ParameterizedTypeReference, PageConsumer)}
+     *
+     * @param <T> type of the page
+     */
+    @FunctionalInterface
+    interface PageConsumer<T> {
+        /**
+         * Process next page of the response, as soon as it is received
+         *
+         * @param page response objects of the page
+         * @throws Exception if any error occurs during page processing
+         */
+        void accept(T page) throws Exception;
+    }
+
     private static final String BASE_URI = "api/admin/";
     private static final String CONFERENCING_NODES_URI = "status/v1/worker_vm/?limit=%s";
     private static final String CONFERENCE_SHARD_URI = "status/v1/conference_shard/?limit=%s";
@@ -67,8 +350,8 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
     private static final String LICENSING_URI = "status/v1/licensing/";
     private static final String CONFERENCE_URI = "status/v1/conference/?limit=%s";
     private static final String CONFERENCING_NODES_CONFIGURATION_URI = "configuration/v1/worker_vm/?limit=%s"; //address corresponds conference's "node", so it's the way to figure out exact node for a conference
-    private static final String HISTORICAL_PARTICIPANTS_URI = "history/v1/participant/?limit=%s&end_time__gte=%s&end_time__lt=%s"; // default limit is 5000
-    private static final String HISTORICAL_CONFERENCE_URI = "history/v1/conference/?limit=%s&end_time__gte=%s&end_time__lt=%s"; // default limit is 5000
+    private static final String HISTORICAL_PARTICIPANTS_URI = "history/v1/participant/?limit=%s&end_time__gte=%s&end_time__lt=%s&order_by=end_time"; // default limit is 5000
+    private static final String HISTORICAL_CONFERENCE_URI = "history/v1/conference/?limit=%s&end_time__gte=%s&end_time__lt=%s&order_by=end_time"; // default limit is 5000
 
     private static final String COMMAND_DISCONNECT_PARTICIPANT = "command/v1/participant/disconnect/";
     private static final String COMMAND_DISCONNECT_CONFERENCE = "command/v1/conference/disconnect/";
@@ -76,11 +359,38 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
     private static final String HISTORICAL_LOGS = "Logs#HistoricalLogs";
     private static final String DAYS_BACK_LOGS = "Logs#DaysBack";
     private static final String STATISTIC_LOGS = "Logs#StatisticLogs";
+    private static final String CONFERENCES_DISCONNECT_ALL = "Conferences#DisconnectAll";
+    private static final String DISCONNECT_PARTICIPANTS = "DisconnectParticipants";
+    private static final String BULK_DISCONNECT_RESULT = "BulkDisconnect#LastResult";
+    /*max number of failed items, listed in the bulk disconnect summary*/
+    private static final int BULK_DISCONNECT_FAILURES_LIMIT = 10;
+    /*Processing phases, published with the API endpoints metrics under the Monitoring group*/
+    private static final String POLL_CYCLE_METRICS = "PollCycle";
+    private static final String NODES_MAPPING_METRICS = "ConferencingNodesMapping";
+    private static final String CONFERENCES_MERGE_METRICS = "ConferencesMerge";
+    private static final String REPORT_METRICS = "Report";
+    /*Conferencing node properties that change on almost every cycle, these alone do not mark the node as changed*/
+    private static final Set<String> VOLATILE_PROPERTIES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "General#LastReported", "General#LastUpdated", "General#MediaLoad", "General#MediaTokensUsed", "General#SignalingCount")));
+    private static final String REPORTS_QUEUED = "Logs#ReportsQueued";
+    private static final String REPORT_RUNNING = "Logs#ReportRunning";
+    private static final String LAST_REPORT_SENT = "Logs#LastReportSent";
+    private static final String LAST_REPORT_ERROR = "Logs#LastReportError";
+    private static final String NONE = "None";
+    /*max number of email reports waiting to be sent*/
+    private static final int REPORTS_QUEUE_CAPACITY = 16;
 
     private static final String OBJECTS = "objects";
+    /*participant fields, read by countParticipantsByConference(ArrayNode, Map, Map)*/
+    private static final Set<String> PARTICIPANT_COUNTER_FIELDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("conference", "id", "display_name")));
 
     /*default limit for using as a query string parameter for pexip api requests*/
-    private final int RESPONSE_LIMIT = 5000;
+    private static final int RESPONSE_LIMIT = 5000;
+    private static final ParameterizedTypeReference<ManagementNodeResponse<Conference>> CONFERENCES_RESPONSE_TYPE =
+            new ParameterizedTypeReference<ManagementNodeResponse<Conference>>() {
+            };
+    /*if retrieveMultipleStatistics() is not called within this period of time (ms) - statistics collection is paused*/
+    private static final long RETRIEVE_STATISTICS_TIMEOUT = 3 * 60 * 1000;
 
     /*TODO: OTJ for v2:*/
     /*
@@ -103,16 +413,102 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
     /*whether or not conferences statistics should be displayed on the conferencing nodes at runtime*/
     private boolean displayConferencesStatistics = false;
 
+    /*interval (ms) between two consecutive statistics collection cycles of the background collector*/
+    private long statisticsPollingInterval = 60000;
+    /*time to live (ms) of the cached conferencing nodes configuration*/
+    private long configurationCacheTtl = 30 * 60 * 1000;
+    /*time to live (ms) of the cached licensing data, shared by licensing statistics and licensing reports*/
+    private long licensingCacheTtl = 30000;
+    /*page size (limit query string parameter) for paginated pexip api requests*/
+    private int responsePageSize = RESPONSE_LIMIT;
+    /*max number of Pexip API requests issued concurrently within a single polling cycle*/
+    private int concurrentRequestsLimit = 4;
+    /*max number of Pexip API requests issued concurrently by email reports, on top of concurrentRequestsLimit*/
+    private int reportConcurrentRequestsLimit = 2;
+    /*duration (hours) of a single time slice historical reports are requested by*/
+    private int historicalReportSliceHours = 24;
+    /*local directory to keep historical data of the past days in, not used if empty*/
+    private String historicalDataDirectory;
+    /*whether retrieveMultipleStatistics() should only report conferencing nodes that changed since the previous call*/
+    private boolean emitChangedDevicesOnly = false;
+    /*interval (ms) after which a conferencing node, that only has volatile properties changed (load, counters, etc), is reported as changed*/
+    private long volatilePropertiesRefreshInterval = 5 * 60 * 1000;
+    /*max number of disconnect commands per second, issued by bulk disconnect controls*/
+    private int disconnectRateLimit = 10;
+    /*max number of disconnect commands issued concurrently by bulk disconnect controls, on top of concurrentRequestsLimit*/
+    private int disconnectConcurrentRequestsLimit = 2;
+    /*max number of attempts to generate and send an email report*/
+    private int reportRetryAttempts = 3;
+    /*delay (ms) before the first email report retry, doubled for every next retry*/
+    private long reportRetryDelay = 10000;
+    /*max size (MB) of the historical reports data, cached in historicalDataDirectory*/
+    private int historicalDataCacheSize = 512;
+    /*read timeout (ms) of the status and configuration API requests*/
+    private int statusRequestTimeout = 30000;
+    /*read timeout (ms) of the history API requests, history pages may contain up to responsePageSize records*/
+    private int historyRequestTimeout = 120000;
+    /*read timeout (ms) of the command API requests*/
+    private int commandRequestTimeout = 30000;
+
     /*Device adapter instantiation timestamp.*/
     private long adapterInitializationTimestamp;
-    /*Name:ID pair to lookup id for specific control actions*/
-    private Map<String, String> knownConferences = new HashMap<>();
-    private Map<String, String> knownParticipants = new HashMap<>();
+    /*Executor that runs the background statistics collector*/
+    private ExecutorService executorService;
+    /*Bounded executor, used to issue independent Pexip API requests concurrently*/
+    private ExecutorService requestsExecutorService;
+    /*Bounded executor of the email reports requests, separate from requestsExecutorService so reports cannot starve polling*/
+    private ExecutorService reportRequestsExecutorService;
+    /*Bounded executor of the bulk disconnect commands, separate from requestsExecutorService so disconnects cannot starve polling*/
+    private ExecutorService disconnectRequestsExecutorService;
+    /*RestTemplate instance that has already been configured with the adapter specific message converters*/
+    private RestTemplate configuredRestTemplate;
+    /*Conferencing nodes configuration properties by node name, cached for configurationCacheTtl*/
+    private volatile Map<String, Map<String, String>> conferencingNodesConfiguration = Collections.emptyMap();
+    /*Timestamp of the latest conferencing nodes configuration retrieval*/
+    private volatile long conferencingNodesConfigurationTimestamp;
+    /*Names of the conferencing nodes that had no configuration after the latest refresh, not refreshed again until the cache expires*/
+    private volatile Set<String> unconfiguredNodeNames = Collections.emptySet();
+    /*Property keys and controls of the active conferences, by conference name*/
+    private final Map<String, ConferencePropertyKeys> conferencePropertyKeys = new ConcurrentHashMap<>();
+    /*Ids of the devices that changed since they were last reported by retrieveMultipleStatistics()*/
+    private final Set<String> changedDeviceIds = ConcurrentHashMap.newKeySet();
+    /*Per-day conference rollups, stored under historicalDataDirectory*/
+    private volatile ConferenceRollupStore conferenceRollupStore;
+    /*Rate limiter of the bulk disconnect commands*/
+    private RateLimiter disconnectRateLimiter;
+    /*Summary of the latest bulk disconnect operation*/
+    private volatile String lastBulkDisconnectResult;
+    /*Background queue of the email reports*/
+    private ReportDispatcher reportDispatcher;
+    /*History API objects of the past days, cached under historicalDataDirectory*/
+    private volatile HistoryCache historyCache;
+    /*Latest licensing data snapshot, see retrieveLicensingSnapshot()*/
+    private volatile LicensingSnapshot licensingSnapshot;
+    /*Lock to make sure concurrent callers trigger a single licensing data request*/
+    private final Object licensingSnapshotLock = new Object();
+    /*Background collector that refreshes aggregatedDevicesSnapshot*/
+    private PexipStatisticsCollector statisticsCollector;
+    /*Latest snapshot of conferencing nodes by device id (resource_uri), published by the background collector*/
+    private volatile Map<String, AggregatedDevice> aggregatedDevicesSnapshot = Collections.emptyMap();
+    /*Timestamp until which the statistics collection is considered requested by Symphony*/
+    private volatile long validRetrieveStatisticsTimestamp;
+    /*Timestamp of the next statistics collection cycle*/
+    private volatile long nextStatisticsCollectionTimestamp;
+    /*Whether statistics collection is paused, due to retrieveMultipleStatistics() inactivity*/
+    private volatile boolean collectorPaused;
+    /*Name:ID pairs of the latest collection cycle, to lookup id for specific control actions*/
+    private volatile ControlIndex controlIndex = ControlIndex.EMPTY;
+    /*Latency, payload and row count metrics of the API endpoints and processing phases, see getMultipleStatistics()*/
+    private final AdapterMetrics adapterMetrics = new AdapterMetrics();
     /*adapter properties, containing its metadata (built date, version etc)*/
     private Properties properties = new Properties();
 
     private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+    /*model-mapping.yml models, compiled into direct field extractors*/
+    private CompiledMapping compiledMapping;
     private JavaMailSender mailSender;
+    /*temp directory for csv reports, sent over email*/
+    private final ReportSpool reportSpool = new ReportSpool("pexip-reports-");
 
     /*
      * Historical:
@@ -147,20 +543,23 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
             staticStatistics.put(HISTORICAL_LOGS, "");
             staticStatistics.put(DAYS_BACK_LOGS, String.valueOf(daysBackReports));
             staticStatistics.put(STATISTIC_LOGS, "");
+            staticStatistics.put(REPORTS_QUEUED, String.valueOf(reportDispatcher.getQueuedCount()));
+            staticStatistics.put(REPORT_RUNNING, Optional.ofNullable(reportDispatcher.getRunningReport()).orElse(NONE));
+            staticStatistics.put(LAST_REPORT_SENT, Optional.ofNullable(reportDispatcher.getLastSentReport()).orElse(NONE));
+            staticStatistics.put(LAST_REPORT_ERROR, Optional.ofNullable(reportDispatcher.getLastError()).orElse(NONE));
             controllableProperties.add(createNumber(DAYS_BACK_LOGS, daysBackReports));
             controllableProperties.add(createButton(STATISTIC_LOGS, "Email Logs", "Sending Email", 0L));
             controllableProperties.add(createButton(HISTORICAL_LOGS, "Email Logs", "Sending Email", 0L));
             controllableProperties.add(createButton(LICENSING_LOGS, "Email Logs", "Sending Email", 0L));
         }
+        if (lastBulkDisconnectResult != null) {
+            staticStatistics.put(BULK_DISCONNECT_RESULT, lastBulkDisconnectResult);
+        }
+        adapterMetrics.publish(staticStatistics);
 
-        JsonNode response = doGet(LICENSING_URI, JsonNode.class);
-        ArrayNode licensingData = (ArrayNode) response.get(OBJECTS);
-        if (licensingData != null && !licensingData.isEmpty()) {
-            /* After 5.2 will be changed to Map<String, String> dynamicStatistics = new HashMap<>(); */
-            AggregatedDevice licensingStatistics = new AggregatedDevice();
-            aggregatedDeviceProcessor.applyProperties(licensingStatistics, licensingData.get(0), "NodeLicensing");
-            Map<String, String> dynamicProperties = licensingStatistics.getProperties();
-            extendedStatistics.setDynamicStatistics(dynamicProperties);
+        LicensingSnapshot licensing = retrieveLicensingSnapshot();
+        if (!licensing.getStatistics().isEmpty()) {
+            extendedStatistics.setDynamicStatistics(new HashMap<>(licensing.getStatistics()));
         }
 
         extendedStatistics.setStatistics(staticStatistics);
@@ -174,10 +573,30 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
         adapterInitializationTimestamp = System.currentTimeMillis();
         setBaseUri(BASE_URI);
         setTrustAllCertificates(true);
+        int requestsLimit = Math.max(1, concurrentRequestsLimit) + Math.max(1, reportConcurrentRequestsLimit)
+                + Math.max(1, disconnectConcurrentRequestsLimit);
+        if (getMaxConnectionsPerRoute() < requestsLimit) {
+            // Concurrent requests are going to the same route, so the connection pool should not be the bottleneck
+            setMaxConnectionsPerRoute(requestsLimit);
+        }
+        if (getMaxConnectionsTotal() < getMaxConnectionsPerRoute()) {
+            setMaxConnectionsTotal(getMaxConnectionsPerRoute());
+        }
         super.internalInit();
+        requestsExecutorService = Executors.newFixedThreadPool(Math.max(1, concurrentRequestsLimit));
+        reportRequestsExecutorService = Executors.newFixedThreadPool(Math.max(1, reportConcurrentRequestsLimit));
+        disconnectRequestsExecutorService = Executors.newFixedThreadPool(Math.max(1, disconnectConcurrentRequestsLimit));
+        disconnectRateLimiter = RateLimiter.create(Math.max(1, disconnectRateLimit));
+        reportDispatcher = new ReportDispatcher(REPORTS_QUEUE_CAPACITY, reportRetryAttempts, reportRetryDelay);
 
         Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("mapping/model-mapping.yml", getClass());
         aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+        compiledMapping = CompiledMapping.compile(mapping);
+        if (!StringUtils.isNullOrEmpty(historicalDataDirectory)) {
+            // Directory may be shared by multiple adapters, so the data is kept per Management Node
+            conferenceRollupStore = new ConferenceRollupStore(Paths.get(historicalDataDirectory, getHost(), "rollups"));
+            historyCache = new HistoryCache(Paths.get(historicalDataDirectory, getHost(), "history"), historicalDataCacheSize * 1024L * 1024L);
+        }
         properties.load(getClass().getResourceAsStream("/version.properties"));
         if (!smtpDataProvided()) {
             if (logger.isInfoEnabled()) {
@@ -188,6 +607,52 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
         }
     }
 
+    @Override
+    protected void internalDestroy() {
+        if (statisticsCollector != null) {
+            statisticsCollector.stop();
+            statisticsCollector = null;
+        }
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+        if (reportDispatcher != null) {
+            reportDispatcher.shutdown();
+            reportDispatcher = null;
+        }
+        if (requestsExecutorService != null) {
+            requestsExecutorService.shutdownNow();
+            requestsExecutorService = null;
+        }
+        if (reportRequestsExecutorService != null) {
+            reportRequestsExecutorService.shutdownNow();
+            reportRequestsExecutorService = null;
+        }
+        if (disconnectRequestsExecutorService != null) {
+            disconnectRequestsExecutorService.shutdownNow();
+            disconnectRequestsExecutorService = null;
+        }
+        aggregatedDevicesSnapshot = Collections.emptyMap();
+        changedDeviceIds.clear();
+        conferencePropertyKeys.clear();
+        controlIndex = ControlIndex.EMPTY;
+        adapterMetrics.clear();
+        conferencingNodesConfiguration = Collections.emptyMap();
+        conferencingNodesConfigurationTimestamp = 0;
+        unconfiguredNodeNames = Collections.emptySet();
+        licensingSnapshot = null;
+        conferenceRollupStore = null;
+        historyCache = null;
+        nextStatisticsCollectionTimestamp = 0;
+        try {
+            reportSpool.close();
+        } catch (IOException e) {
+            logger.warn("Unable to remove csv reports directory", e);
+        }
+        super.internalDestroy();
+    }
+
     private boolean smtpDataProvided(){
         return !StringUtils.isNullOrEmpty(smtpHost) && !StringUtils.isNullOrEmpty(smtpSender);
     }
@@ -343,403 +808,1368 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
         this.displayConferencesStatistics = displayConferencesStatistics;
     }
 
-    @Override
-    public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-        String property = controllableProperty.getProperty();
-        String value = String.valueOf(controllableProperty.getValue());
-
-        if (property.equals(LICENSING_LOGS)) {
-            JsonNode response = doGet(LICENSING_URI, JsonNode.class);
-            ArrayNode licensingData = (ArrayNode) response.get(OBJECTS);
-            if (licensingData != null && !licensingData.isEmpty()) {
-                /* After 5.2 will be changed to Map<String, String> report = new HashMap<>(); */
-                AggregatedDevice report = new AggregatedDevice();
-                aggregatedDeviceProcessor.applyProperties(report, licensingData.get(0), "NodeLicensingReport");
-                sendReportsEmail("licensing_logs", report.getProperties());
-            } else {
-                throw new RuntimeException("Empty licensing data response, unable to compose a licensing report");
-            }
-        } else if (property.equals(HISTORICAL_LOGS)) {
-            retrieveHistoricalInfo();
-        } else if (property.equals(DAYS_BACK_LOGS)) {
-            int daysBackValue = Integer.parseInt(value);
-            if(daysBackValue < 0) {
-                throw new IllegalArgumentException("Invalid daysBackReports value. Must be positive number.");
-            }
-            daysBackReports = daysBackValue;
-        } else if (property.endsWith("Disconnect") || property.startsWith("Logs") || property.endsWith("ParticipantLogs")) {
-            String key = property.substring(property.indexOf(":") + 1, property.indexOf("#"));
-            if (property.startsWith("Conference") && property.endsWith("Disconnect")) {
-                disconnectConference(knownConferences.get(key));
-            } else if (property.startsWith("Participant")) {
-                disconnectParticipant(knownParticipants.get(key));
-            } else if (property.endsWith(STATISTIC_LOGS)) {
-                sendReportsEmail("avg_monthly", buildMajorNodeReport());
-            } else if (property.endsWith("ParticipantLogs")) {
-                sendReportsEmail(Collections.singletonList(new ReportWrapper(("participants_" + LocalDateTime.now()).replaceAll(":", "-"), retrieveParticipants(key))));
-            }
-        }
-    }
-
-    @Override
-    public void controlProperties(List<ControllableProperty> list) throws Exception {
-        if (CollectionUtils.isEmpty(list)) {
-            throw new IllegalArgumentException("Controllable properties cannot be null or empty");
-        }
-
-        for (ControllableProperty controllableProperty : list) {
-            controlProperty(controllableProperty);
-        }
-    }
-
     /**
-     * Disconnect participant from the node by {@code participantId}
+     * Retrieves {@code {@link #statisticsPollingInterval}}
      *
-     * @param participantId id of a participant, retrieved from the node
-     * @throws Exception if any error occurs
+     * @return value of {@link #statisticsPollingInterval}
      */
-    private void disconnectParticipant(String participantId) throws Exception {
-        Map<String, String> command = new HashMap<>();
-        command.put("participant_id", participantId);
-        doPost(COMMAND_DISCONNECT_PARTICIPANT, command);
+    public long getStatisticsPollingInterval() {
+        return statisticsPollingInterval;
     }
 
     /**
-     * Disconnect conference from the node by {@code conferenceId}
+     * Sets {@code statisticsPollingInterval}
      *
-     * @param conferenceId id of a conference, retrieved from the node
-     * @throws Exception if any error occurs
+     * @param statisticsPollingInterval the {@code long} field
      */
-    private void disconnectConference(String conferenceId) throws Exception {
-        Map<String, String> command = new HashMap<>();
-        command.put("conference_id", conferenceId);
-        doPost(COMMAND_DISCONNECT_CONFERENCE, command);
+    public void setStatisticsPollingInterval(long statisticsPollingInterval) {
+        this.statisticsPollingInterval = statisticsPollingInterval;
     }
 
-    @Override
-    protected void authenticate() throws Exception {
+    /**
+     * Retrieves {@code {@link #concurrentRequestsLimit}}
+     *
+     * @return value of {@link #concurrentRequestsLimit}
+     */
+    public int getConcurrentRequestsLimit() {
+        return concurrentRequestsLimit;
     }
 
     /**
-     * Build node report, containing average stats for conferences and participants for the last 2 months (and in comparison)
+     * Sets {@code concurrentRequestsLimit}
      *
-     * @return Map of values
-     * @throws Exception if any error occurs
+     * @param concurrentRequestsLimit the {@code int} field
      */
-    private Map<String, String> buildMajorNodeReport() throws Exception {
-        Map<String, String> reportData = new HashMap<>();
-
-        LocalDate currentDate = LocalDate.now();
-        LocalDateTime currentDateTime = LocalDateTime.now();
-
-        LocalDateTime currentDayStart = currentDateTime.withHour(0).withMinute(0);
-        LocalDate currentMonthStart = currentDate.withDayOfMonth(1);
-
-        LocalDate previousMonthStart;
-        if (currentMonthStart.getMonthValue() == 1) {
-            previousMonthStart = currentDate.minusYears(1).withMonth(12).withDayOfMonth(1);
-        } else {
-            previousMonthStart = currentDate.withMonth(currentMonthStart.getMonthValue() - 1).withDayOfMonth(1);
-        }
-
-
-        List<Conference> conferencesDaily = doGet(String.format(HISTORICAL_CONFERENCE_URI, RESPONSE_LIMIT, currentDayStart, currentDateTime),
-                new ParameterizedTypeReference<ManagementNodeResponse<Conference>>() {
-                }).getObjects();
-
-        List<Conference> conferencesMonthly = doGet(String.format(HISTORICAL_CONFERENCE_URI, RESPONSE_LIMIT, currentMonthStart, currentDateTime),
-                new ParameterizedTypeReference<ManagementNodeResponse<Conference>>() {
-                }).getObjects();
-
-        List<Conference> conferencesLastMonth = doGet(String.format(HISTORICAL_CONFERENCE_URI, RESPONSE_LIMIT, previousMonthStart, currentMonthStart),
-                new ParameterizedTypeReference<ManagementNodeResponse<Conference>>() {
-                }).getObjects();
-
-        int totalDailyDuration = 0;
-        int totalMonthlyDuration = 0;
-        int totalPreviousMonthDuration = 0;
-        int participantsDailyCount = 0;
-        int participantsMonthlyCount = 0;
-        int participantsPreviousMonthCount = 0;
-
-        int conferencesDailyCount = conferencesDaily.size();
-        int conferencesMonthlyCount = conferencesMonthly.size();
-        int conferencesPreviousMonthCount = conferencesLastMonth.size();
-
-        for (Conference node : conferencesDaily) {
-            totalDailyDuration += node.getDuration();
-            participantsDailyCount += node.getParticipantCount();
-        }
-
-        for (Conference node : conferencesMonthly) {
-            totalMonthlyDuration += node.getDuration();
-            participantsMonthlyCount += node.getParticipantCount();
-        }
-
-        for (Conference node : conferencesLastMonth) {
-            totalPreviousMonthDuration += node.getDuration();
-            participantsPreviousMonthCount += node.getParticipantCount();
-        }
-
-        Integer averageDurationDaily = safeDivision(totalDailyDuration, conferencesDailyCount);
-        Integer averageDurationMonthly = safeDivision(totalMonthlyDuration, conferencesMonthlyCount);
-        Integer averageDurationPreviousMonth = safeDivision(totalPreviousMonthDuration, conferencesPreviousMonthCount);
-
-        Integer averageParticipantsDaily = safeDivision(participantsDailyCount, conferencesDailyCount);
-        Integer averageParticipantsMonthly = safeDivision(participantsMonthlyCount, conferencesMonthlyCount);
-        Integer averageParticipantsLastMonth = safeDivision(participantsPreviousMonthCount, conferencesPreviousMonthCount);
-
-        reportData.put("ConferencesDaily", String.valueOf(conferencesDailyCount));
-        reportData.put("ConferencesDurationDaily", String.valueOf(totalDailyDuration));
-        reportData.put("ParticipantsSumDaily", String.valueOf(participantsDailyCount));
-        reportData.put("AvgDurationDaily", String.valueOf(averageDurationDaily));
-        reportData.put("AvgParticipantsDaily", String.valueOf(averageParticipantsDaily));
-        reportData.put("ConferencesMonthly", String.valueOf(conferencesMonthly.size()));
-        reportData.put("ConferencesPreviousMonth", String.valueOf(conferencesLastMonth.size()));
-        reportData.put("ConferencesMonthlyDiff", String.valueOf(conferencesMonthly.size() - conferencesLastMonth.size()));
-        reportData.put("DurationMonthly", String.valueOf(totalMonthlyDuration));
-        reportData.put("DurationPreviousMonth", String.valueOf(totalPreviousMonthDuration));
-        reportData.put("DurationMonthlyDiff", String.valueOf(totalMonthlyDuration - totalPreviousMonthDuration));
-        reportData.put("ParticipantsMonthly", String.valueOf(participantsMonthlyCount));
-        reportData.put("ParticipantsPreviousMonth", String.valueOf(participantsPreviousMonthCount));
-        reportData.put("ParticipantsMonthlyDiff", String.valueOf(participantsMonthlyCount - participantsPreviousMonthCount));
-        reportData.put("DurationAvgMonthly", String.valueOf(averageDurationMonthly));
-        reportData.put("DurationAvgPreviousMonth", String.valueOf(averageDurationPreviousMonth));
-        reportData.put("DurationAvgMonthlyDiff", String.valueOf(averageDurationMonthly - averageDurationPreviousMonth));
-        reportData.put("ParticipantsAvgMonthly", String.valueOf(averageParticipantsMonthly));
-        reportData.put("ParticipantsAvgPreviousMonth", String.valueOf(averageParticipantsLastMonth));
-        reportData.put("ParticipantsAvgMonthlyDiff", String.valueOf(averageParticipantsMonthly - averageParticipantsLastMonth));
-
-        return reportData;
+    public void setConcurrentRequestsLimit(int concurrentRequestsLimit) {
+        this.concurrentRequestsLimit = concurrentRequestsLimit;
     }
 
     /**
-     * Make safe division operation
+     * Retrieves {@code {@link #reportConcurrentRequestsLimit}}
      *
-     * @param totalNumber the total sum value
-     * @param div         division value
-     * @return int end division result
+     * @return value of {@link #reportConcurrentRequestsLimit}
      */
-    private int safeDivision(int totalNumber, int div) {
-        if (div == 0 || totalNumber == 0) {
-            return 0;
-        }
-        return totalNumber / div;
+    public int getReportConcurrentRequestsLimit() {
+        return reportConcurrentRequestsLimit;
     }
 
     /**
-     * Build and send historical report for conferences and participants over email
+     * Sets {@code reportConcurrentRequestsLimit}
      *
-     * @throws Exception if any error occurs
+     * @param reportConcurrentRequestsLimit the {@code int} field
      */
-    private void retrieveHistoricalInfo() throws Exception {
-        List<Map<String, String>> conferencesReport = new ArrayList<>();
-        List<Map<String, String>> participantsReport = new ArrayList<>();
-
-        LocalDateTime currentDateTime = LocalDateTime.now();
-        LocalDateTime dateFrom = currentDateTime.minusDays(daysBackReports);
-
-        JsonNode historicalConferences = doGet(String.format(HISTORICAL_CONFERENCE_URI, RESPONSE_LIMIT, dateFrom, currentDateTime), JsonNode.class);
-        JsonNode historicalParticipants = doGet(String.format(HISTORICAL_PARTICIPANTS_URI, RESPONSE_LIMIT, dateFrom, currentDateTime), JsonNode.class);
-
-        ArrayNode historicalConferenceArray = (ArrayNode) historicalConferences.get(OBJECTS);
-        ArrayNode historicalParticipantArray = (ArrayNode) historicalParticipants.get(OBJECTS);
-
-
-        if (historicalConferenceArray != null && !historicalConferenceArray.isEmpty()) {
-            historicalConferenceArray.forEach(node -> {
-                /* After 5.2 will be changed to Map<String, String> report = new HashMap<>(); */
-                AggregatedDevice report = new AggregatedDevice();
-                aggregatedDeviceProcessor.applyProperties(report, node, "ConferenceHistoricalReportStats");
-                conferencesReport.add(report.getProperties());
-            });
-        }
-
-        if (historicalParticipantArray != null && !historicalParticipantArray.isEmpty()) {
-            historicalParticipantArray.forEach(node -> {
-                /* After 5.2 will be changed to Map<String, String> report = new HashMap<>(); */
-                AggregatedDevice report = new AggregatedDevice();
-                aggregatedDeviceProcessor.applyProperties(report, node, "ParticipantHistoricalReportStats");
-                participantsReport.add(report.getProperties());
-            });
-        }
-
-        ReportWrapper conferencesReportWrapper = new ReportWrapper(String.format("conferences_logs_%s_%s", currentDateTime.minusDays(daysBackReports), currentDateTime), conferencesReport);
-        ReportWrapper participantsReportWrapper = new ReportWrapper(String.format("participants_logs_%s_%s", currentDateTime.minusDays(daysBackReports), currentDateTime), participantsReport);
-
-        sendReportsEmail(Arrays.asList(conferencesReportWrapper, participantsReportWrapper));
+    public void setReportConcurrentRequestsLimit(int reportConcurrentRequestsLimit) {
+        this.reportConcurrentRequestsLimit = reportConcurrentRequestsLimit;
     }
 
-    /*TODO: OTJ for V2:*/
-    /*
-    private Map<String, String> retrieveOneTouchJoinMeetingsPerEndpointDetails(String endpoint) throws Exception {
-        JsonNode response = doGet(String.format(ONE_TOUCH_JOIN_MEETINGS_PER_ENDPOINT_URI, endpoint), JsonNode.class);
-        return null;
+    /**
+     * Retrieves {@code {@link #configurationCacheTtl}}
+     *
+     * @return value of {@link #configurationCacheTtl}
+     */
+    public long getConfigurationCacheTtl() {
+        return configurationCacheTtl;
     }
 
-    private Map<String, String> retrieveOneTouchJoinMeetingsPerDateDetails(String date) throws Exception {
-        JsonNode response = doGet(String.format(ONE_TOUCH_JOIN_MEETINGS_PER_DATE_URI, date), JsonNode.class);
-        return null;
+    /**
+     * Sets {@code configurationCacheTtl}
+     *
+     * @param configurationCacheTtl the {@code long} field
+     */
+    public void setConfigurationCacheTtl(long configurationCacheTtl) {
+        this.configurationCacheTtl = configurationCacheTtl;
     }
-    */
 
     /**
-     * Retrieve a list of conferencing nodes attached to the management node, as Aggregated Devices
+     * Retrieves {@code {@link #licensingCacheTtl}}
      *
-     * @return {@link List} of {@link AggregatedDevice} instances, containing the data extracted from {@link #CONFERENCING_NODES_URI}
-     * using model-mapping.yml mapping
-     * @throws Exception if any error occurs
+     * @return value of {@link #licensingCacheTtl}
      */
-    private List<AggregatedDevice> retrieveConferencingNodes() throws Exception {
-        JsonNode response = doGet(String.format(CONFERENCING_NODES_URI, RESPONSE_LIMIT), JsonNode.class);
-        List<AggregatedDevice> devices = aggregatedDeviceProcessor.extractDevices(response);
-
-        JsonNode conferencingNodesConfig = doGet(String.format(CONFERENCING_NODES_CONFIGURATION_URI, RESPONSE_LIMIT), JsonNode.class);
-        ArrayNode conferencingNodesConfigObjects = (ArrayNode) conferencingNodesConfig.get(OBJECTS);
-
-        if (conferencingNodesConfigObjects != null && !conferencingNodesConfigObjects.isEmpty()) {
-            Map<String, Map<String, String>> configurations = new HashMap<>();
-            conferencingNodesConfigObjects.forEach(node -> {
-                /* After 5.2 will be changed to Map<String, String> conferenceNodesConfig = new HashMap<>(); */
-                AggregatedDevice conferenceNodesConfig = new AggregatedDevice();
-                aggregatedDeviceProcessor.applyProperties(conferenceNodesConfig, node, "ConferencingNodesConfig");
-                configurations.put(conferenceNodesConfig.getProperties().get("Configuration#Name"), conferenceNodesConfig.getProperties());
-            });
-
-            devices.forEach(aggregatedDevice -> aggregatedDevice.getProperties().putAll(configurations.get(aggregatedDevice.getDeviceName())));
-        }
-
-        devices.forEach(aggregatedDevice -> {
-            List<Statistics> statistics = new ArrayList<>();
-            ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-            statistics.add(extendedStatistics);
-            extendedStatistics.setStatistics(aggregatedDevice.getProperties());
-            /*TODO: apply when SY v5.2 is out*/
-            //extendedStatistics.setDynamicStatistics(aggregatedDevice.getDynamicStatistics());
-            aggregatedDevice.setMonitoredStatistics(statistics);
-        });
-        return devices;
+    public long getLicensingCacheTtl() {
+        return licensingCacheTtl;
     }
 
     /**
-     * Retrieve conferences status as {@link List} of {@link Map}, map instance per conference.
-     * Values are extracted using model-mapping.yml, as AggregatedDevice instances (for v1, targeted to SY 5.1),
-     * v2 will have data exported as {@link Map} (targeted to SY v5.2)
+     * Sets {@code licensingCacheTtl}
      *
-     * @return {@link List} of {@link Map} containing {@link String} key:value pairs, representing conferences statuses
-     * @throws Exception if any error occurs
+     * @param licensingCacheTtl the {@code long} field
      */
-    private List<Map<String, String>> retrieveConferencesStatus() throws Exception {
-        List<Map<String, String>> conferences = new ArrayList<>();
-        JsonNode conferencesResponse = doGet(String.format(CONFERENCE_URI, RESPONSE_LIMIT), JsonNode.class);
-        JsonNode conferenceShards = doGet(String.format(CONFERENCE_SHARD_URI, RESPONSE_LIMIT), JsonNode.class);
-
-        ArrayNode conferenceShardObjects = (ArrayNode) conferenceShards.get(OBJECTS);
-        ArrayNode conferenceObjects = (ArrayNode) conferencesResponse.get(OBJECTS);
-
-        if (conferenceShardObjects != null && conferenceObjects != null &&
-                !conferenceShardObjects.isEmpty() && !conferenceObjects.isEmpty()) {
-            conferenceObjects.forEach(node -> {
-                /* After 5.2 will be changed to Map<String, String> conferenceStatus = new HashMap<>(); */
-                AggregatedDevice report = new AggregatedDevice();
-                aggregatedDeviceProcessor.applyProperties(report, node, "ConferenceStatus");
-                conferenceShardObjects.forEach(shard -> {
-                    if (shard.get("id").asText().equals(report.getProperties().get("ID"))) {
-                        /* After 5.2 will be changed to Map<String, String> status = new HashMap<>(); */
-                        AggregatedDevice status = new AggregatedDevice();
-                        aggregatedDeviceProcessor.applyProperties(status, shard, "ConferenceShard");
-                        report.getProperties().putAll(status.getProperties());
-                    }
-                });
-                conferences.add(report.getProperties());
-            });
-        }
-        return conferences;
+    public void setLicensingCacheTtl(long licensingCacheTtl) {
+        this.licensingCacheTtl = licensingCacheTtl;
     }
 
     /**
-     * Retrieve participants status as {@link List} of {@link Map}, map instance per participant.
-     * Values are extracted using model-mapping.yml, as AggregatedDevice instances (for v1, targeted to SY 5.1),
-     * v2 will have data exported as {@link Map} (targeted to SY v5.2)
+     * Retrieves {@code {@link #responsePageSize}}
      *
-     * @param conferenceId to lookup participants for a specific conference
-     * @return {@link List} of {@link Map} containing {@link String} key:value pairs, representing participants statuses
-     * @throws Exception if any error occurs
+     * @return value of {@link #responsePageSize}
      */
-    private List<Map<String, String>> retrieveParticipants(String conferenceId) throws Exception {
-        JsonNode response = doGet(String.format(CONFERENCE_PARTICIPANTS_URI, 5000, conferenceId), JsonNode.class);
-        return extractParticipants(response);
+    public int getResponsePageSize() {
+        return responsePageSize;
     }
 
     /**
-     * Retrieve participants status as {@link List} of {@link Map}, map instance per participant.
-     * Values are extracted using model-mapping.yml, as AggregatedDevice instances (for v1, targeted to SY 5.1),
-     * v2 will have data exported as {@link Map} (targeted to SY v5.2)
+     * Sets {@code responsePageSize}
      *
-     * @return {@link List} of {@link Map} containing {@link String} key:value pairs, representing participants statuses
-     * @throws Exception if any error occurs
+     * @param responsePageSize the {@code int} field
      */
-    private List<Map<String, String>> retrieveParticipants() throws Exception {
-        JsonNode response = doGet(String.format(PARTICIPANTS_URI, 5000), JsonNode.class);
-        return extractParticipants(response);
+    public void setResponsePageSize(int responsePageSize) {
+        this.responsePageSize = responsePageSize;
     }
 
     /**
-     * Extract participants as {@link List} of {@link Map}, map instance per participant, from {@link JsonNode} API response.
-     * Values are extracted using model-mapping.yml, as AggregatedDevice instances (for v1, targeted to SY 5.1),
-     * v2 will have data exported as {@link Map} (targeted to SY v5.2)
+     * Retrieves {@code {@link #historicalReportSliceHours}}
      *
-     * @return {@link List} of {@link Map} containing {@link String} key:value pairs, representing participants statuses
+     * @return value of {@link #historicalReportSliceHours}
+     */
+    public int getHistoricalReportSliceHours() {
+        return historicalReportSliceHours;
+    }
+
+    /**
+     * Sets {@code historicalReportSliceHours}
+     *
+     * @param historicalReportSliceHours the {@code int} field
+     */
+    public void setHistoricalReportSliceHours(int historicalReportSliceHours) {
+        this.historicalReportSliceHours = historicalReportSliceHours;
+    }
+
+    /**
+     * Retrieves {@code {@link #historicalDataDirectory}}
+     *
+     * @return value of {@link #historicalDataDirectory}
+     */
+    public String getHistoricalDataDirectory() {
+        return historicalDataDirectory;
+    }
+
+    /**
+     * Sets {@code historicalDataDirectory}
+     *
+     * @param historicalDataDirectory the {@code java.lang.String} field
+     */
+    public void setHistoricalDataDirectory(String historicalDataDirectory) {
+        this.historicalDataDirectory = historicalDataDirectory;
+    }
+
+    /**
+     * Retrieves {@code {@link #historicalDataCacheSize}}
+     *
+     * @return value of {@link #historicalDataCacheSize}
+     */
+    public int getHistoricalDataCacheSize() {
+        return historicalDataCacheSize;
+    }
+
+    /**
+     * Sets {@code historicalDataCacheSize}
+     *
+     * @param historicalDataCacheSize the {@code int} field
+     */
+    public void setHistoricalDataCacheSize(int historicalDataCacheSize) {
+        this.historicalDataCacheSize = historicalDataCacheSize;
+    }
+
+    /**
+     * Retrieves {@code {@link #reportRetryAttempts}}
+     *
+     * @return value of {@link #reportRetryAttempts}
+     */
+    public int getReportRetryAttempts() {
+        return reportRetryAttempts;
+    }
+
+    /**
+     * Sets {@code reportRetryAttempts}
+     *
+     * @param reportRetryAttempts the {@code int} field
+     */
+    public void setReportRetryAttempts(int reportRetryAttempts) {
+        this.reportRetryAttempts = reportRetryAttempts;
+    }
+
+    /**
+     * Retrieves {@code {@link #reportRetryDelay}}
+     *
+     * @return value of {@link #reportRetryDelay}
+     */
+    public long getReportRetryDelay() {
+        return reportRetryDelay;
+    }
+
+    /**
+     * Sets {@code reportRetryDelay}
+     *
+     * @param reportRetryDelay the {@code long} field
+     */
+    public void setReportRetryDelay(long reportRetryDelay) {
+        this.reportRetryDelay = reportRetryDelay;
+    }
+
+    /**
+     * Retrieves {@code {@link #emitChangedDevicesOnly}}
+     *
+     * @return value of {@link #emitChangedDevicesOnly}
+     */
+    public boolean isEmitChangedDevicesOnly() {
+        return emitChangedDevicesOnly;
+    }
+
+    /**
+     * Sets {@code emitChangedDevicesOnly}
+     *
+     * @param emitChangedDevicesOnly the {@code boolean} field
+     */
+    public void setEmitChangedDevicesOnly(boolean emitChangedDevicesOnly) {
+        this.emitChangedDevicesOnly = emitChangedDevicesOnly;
+    }
+
+    /**
+     * Retrieves {@code {@link #volatilePropertiesRefreshInterval}}
+     *
+     * @return value of {@link #volatilePropertiesRefreshInterval}
+     */
+    public long getVolatilePropertiesRefreshInterval() {
+        return volatilePropertiesRefreshInterval;
+    }
+
+    /**
+     * Sets {@code volatilePropertiesRefreshInterval}
+     *
+     * @param volatilePropertiesRefreshInterval the {@code long} field
+     */
+    public void setVolatilePropertiesRefreshInterval(long volatilePropertiesRefreshInterval) {
+        this.volatilePropertiesRefreshInterval = volatilePropertiesRefreshInterval;
+    }
+
+    /**
+     * Retrieves {@code {@link #disconnectRateLimit}}
+     *
+     * @return value of {@link #disconnectRateLimit}
+     */
+    public int getDisconnectRateLimit() {
+        return disconnectRateLimit;
+    }
+
+    /**
+     * Sets {@code disconnectRateLimit}
+     *
+     * @param disconnectRateLimit the {@code int} field
+     */
+    public void setDisconnectRateLimit(int disconnectRateLimit) {
+        this.disconnectRateLimit = disconnectRateLimit;
+    }
+
+    /**
+     * Retrieves {@code {@link #disconnectConcurrentRequestsLimit}}
+     *
+     * @return value of {@link #disconnectConcurrentRequestsLimit}
+     */
+    public int getDisconnectConcurrentRequestsLimit() {
+        return disconnectConcurrentRequestsLimit;
+    }
+
+    /**
+     * Sets {@code disconnectConcurrentRequestsLimit}
+     *
+     * @param disconnectConcurrentRequestsLimit the {@code int} field
+     */
+    public void setDisconnectConcurrentRequestsLimit(int disconnectConcurrentRequestsLimit) {
+        this.disconnectConcurrentRequestsLimit = disconnectConcurrentRequestsLimit;
+    }
+
+    /**
+     * Retrieves {@code {@link #statusRequestTimeout}}
+     *
+     * @return value of {@link #statusRequestTimeout}
+     */
+    public int getStatusRequestTimeout() {
+        return statusRequestTimeout;
+    }
+
+    /**
+     * Sets {@code statusRequestTimeout}
+     *
+     * @param statusRequestTimeout the {@code int} field
+     */
+    public void setStatusRequestTimeout(int statusRequestTimeout) {
+        this.statusRequestTimeout = statusRequestTimeout;
+    }
+
+    /**
+     * Retrieves {@code {@link #historyRequestTimeout}}
+     *
+     * @return value of {@link #historyRequestTimeout}
+     */
+    public int getHistoryRequestTimeout() {
+        return historyRequestTimeout;
+    }
+
+    /**
+     * Sets {@code historyRequestTimeout}
+     *
+     * @param historyRequestTimeout the {@code int} field
+     */
+    public void setHistoryRequestTimeout(int historyRequestTimeout) {
+        this.historyRequestTimeout = historyRequestTimeout;
+    }
+
+    /**
+     * Retrieves {@code {@link #commandRequestTimeout}}
+     *
+     * @return value of {@link #commandRequestTimeout}
+     */
+    public int getCommandRequestTimeout() {
+        return commandRequestTimeout;
+    }
+
+    /**
+     * Sets {@code commandRequestTimeout}
+     *
+     * @param commandRequestTimeout the {@code int} field
+     */
+    public void setCommandRequestTimeout(int commandRequestTimeout) {
+        this.commandRequestTimeout = commandRequestTimeout;
+    }
+
+    @Override
+    public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+        String property = controllableProperty.getProperty();
+        String value = String.valueOf(controllableProperty.getValue());
+
+        if (property.equals(LICENSING_LOGS)) {
+            queueReport(LICENSING_LOGS, () -> {
+                LicensingSnapshot licensing = retrieveLicensingSnapshot();
+                if (!licensing.getReport().isEmpty()) {
+                    Map<String, String> report = licensing.getReport();
+                    sendReportsEmail(Collections.singletonList(new ReportWrapper("licensing_logs",
+                            compiledMapping.getModel("NodeLicensingReport").getPropertyNames(), writer -> writer.writeRow(report))));
+                } else {
+                    throw new RuntimeException("Empty licensing data response, unable to compose a licensing report");
+                }
+            });
+        } else if (property.equals(HISTORICAL_LOGS)) {
+            queueReport(HISTORICAL_LOGS, this::retrieveHistoricalInfo);
+        } else if (property.equals(DAYS_BACK_LOGS)) {
+            int daysBackValue = Integer.parseInt(value);
+            if(daysBackValue < 0) {
+                throw new IllegalArgumentException("Invalid daysBackReports value. Must be positive number.");
+            }
+            daysBackReports = daysBackValue;
+        } else if (property.equals(CONFERENCES_DISCONNECT_ALL)) {
+            String deviceId = controllableProperty.getDeviceId();
+            disconnectAll("conferences of " + deviceId, controlIndex.getConferenceIdsByNode(deviceId), this::disconnectConference);
+        } else if (property.startsWith("Conference:") && property.endsWith("#" + DISCONNECT_PARTICIPANTS)) {
+            String conferenceName = property.substring(property.indexOf(":") + 1, property.lastIndexOf("#"));
+            disconnectAll("participants of " + conferenceName, controlIndex.getParticipantIdsByConference(conferenceName), this::disconnectParticipant);
+        } else if (property.endsWith("Disconnect") || property.startsWith("Logs") || property.endsWith("ParticipantLogs")) {
+            String key = property.substring(property.indexOf(":") + 1, property.indexOf("#"));
+            if (property.startsWith("Conference") && property.endsWith("Disconnect")) {
+                String conferenceId = controlIndex.getConferenceId(key);
+                if (conferenceId == null) {
+                    throw new IllegalArgumentException("Unable to find active conference " + key);
+                }
+                disconnectConference(conferenceId);
+            } else if (property.startsWith("Participant")) {
+                String participantId = controlIndex.getParticipantId(key);
+                if (participantId == null) {
+                    throw new IllegalArgumentException("Unable to find active participant " + key);
+                }
+                disconnectParticipant(participantId);
+            } else if (property.endsWith(STATISTIC_LOGS)) {
+                queueReport(STATISTIC_LOGS, () -> {
+                    Map<String, String> report = buildMajorNodeReport();
+                    sendReportsEmail(Collections.singletonList(new ReportWrapper("avg_monthly", new ArrayList<>(report.keySet()), writer -> writer.writeRow(report))));
+                });
+            } else if (property.endsWith("ParticipantLogs")) {
+                CompiledModel participantModel = compiledMapping.getModel("Participant");
+                queueReport(property, () -> sendReportsEmail(Collections.singletonList(new ReportWrapper(("participants_" + LocalDateTime.now()).replaceAll(":", "-"),
+                        participantModel.getPropertyNames(),
+                        writer -> fetchObjects(String.format(CONFERENCE_PARTICIPANTS_URI, responsePageSize, key), participantModel.getReferencedFields(),
+                                node -> writer.writeRow(participantModel.map(node)))))));
+            }
+        }
+    }
+
+    @Override
+    public void controlProperties(List<ControllableProperty> list) throws Exception {
+        if (CollectionUtils.isEmpty(list)) {
+            throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+        }
+
+        for (ControllableProperty controllableProperty : list) {
+            controlProperty(controllableProperty);
+        }
+    }
+
+    /**
+     * Retrieve licensing data snapshot, requesting {@link #LICENSING_URI} only if the latest snapshot is older than
+     * {@link #licensingCacheTtl}. Concurrent callers wait for a single request instead of issuing their own.
+     *
+     * @return {@link LicensingSnapshot} instance, with licensing data mapped for both statistics and reports
+     * @throws Exception if any error occurs
+     */
+    private LicensingSnapshot retrieveLicensingSnapshot() throws Exception {
+        LicensingSnapshot snapshot = licensingSnapshot;
+        if (snapshot != null && !snapshot.isExpired(licensingCacheTtl)) {
+            return snapshot;
+        }
+        synchronized (licensingSnapshotLock) {
+            snapshot = licensingSnapshot;
+            if (snapshot != null && !snapshot.isExpired(licensingCacheTtl)) {
+                return snapshot;
+            }
+            Map<String, String> statistics = new HashMap<>();
+            Map<String, String> report = new HashMap<>();
+            JsonNode response = doGet(LICENSING_URI, JsonNode.class);
+            JsonNode licensingData = response.get(OBJECTS);
+            if (licensingData instanceof ArrayNode && !licensingData.isEmpty()) {
+                compiledMapping.getModel("NodeLicensing").map(licensingData.get(0), statistics);
+                compiledMapping.getModel("NodeLicensingReport").map(licensingData.get(0), report);
+            }
+            snapshot = new LicensingSnapshot(statistics, report);
+            licensingSnapshot = snapshot;
+            return snapshot;
+        }
+    }
+
+    /**
+     * Disconnect conferences or participants in bulk. Commands are issued concurrently, on {@link #disconnectRequestsExecutorService},
+     * and are limited to {@link #disconnectRateLimit} commands per second. Commands wait for the rate limiter on the executor
+     * threads, so the control call is not blocked while the batch is submitted. Results are summarized in
+     * {@link #lastBulkDisconnectResult}.
+     *
+     * @param target  description of the disconnected items, for the summary
+     * @param ids     conference or participant ids
+     * @param command disconnect command of a single item
+     * @throws RuntimeException if any item could not be disconnected
+     * @throws Exception        if the operation is interrupted
+     */
+    private void disconnectAll(String target, List<String> ids, DisconnectCommand command) throws Exception {
+        Map<String, Future<?>> results = new LinkedHashMap<>(ids.size() * 2);
+        try {
+            for (String id : ids) {
+                results.put(id, disconnectRequestsExecutorService.submit(() -> {
+                    disconnectRateLimiter.acquire();
+                    // Rate limiter waits uninterruptibly, commands cancelled meanwhile are not issued
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedException("Disconnect of " + id + " is cancelled");
+                    }
+                    command.disconnect(id);
+                    return null;
+                }));
+            }
+            List<String> failures = new ArrayList<>();
+            for (Map.Entry<String, Future<?>> result : results.entrySet()) {
+                try {
+                    awaitResponse(result.getValue());
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    failures.add(result.getKey() + ": " + e.getMessage());
+                }
+            }
+            StringBuilder summary = new StringBuilder(String.format("%s %s: %s of %s disconnected", LocalDateTime.now(), target,
+                    ids.size() - failures.size(), ids.size()));
+            if (!failures.isEmpty()) {
+                summary.append("; failed ").append(String.join("; ", failures.subList(0, Math.min(failures.size(), BULK_DISCONNECT_FAILURES_LIMIT))));
+                if (failures.size() > BULK_DISCONNECT_FAILURES_LIMIT) {
+                    summary.append("; and ").append(failures.size() - BULK_DISCONNECT_FAILURES_LIMIT).append(" more");
+                }
+            }
+            lastBulkDisconnectResult = summary.toString();
+            if (!failures.isEmpty()) {
+                throw new RuntimeException(String.format("Unable to disconnect %s of %s %s", failures.size(), ids.size(), target));
+            }
+        } finally {
+            results.values().forEach(result -> result.cancel(true));
+        }
+    }
+
+    /**
+     * Disconnect participant from the node by {@code participantId}
+     *
+     * @param participantId id of a participant, retrieved from the node
+     * @throws Exception if any error occurs
+     */
+    private void disconnectParticipant(String participantId) throws Exception {
+        Map<String, String> command = new HashMap<>();
+        command.put("participant_id", participantId);
+        doPost(COMMAND_DISCONNECT_PARTICIPANT, command);
+    }
+
+    /**
+     * Disconnect conference from the node by {@code conferenceId}
+     *
+     * @param conferenceId id of a conference, retrieved from the node
+     * @throws Exception if any error occurs
+     */
+    private void disconnectConference(String conferenceId) throws Exception {
+        Map<String, String> command = new HashMap<>();
+        command.put("conference_id", conferenceId);
+        doPost(COMMAND_DISCONNECT_CONFERENCE, command);
+    }
+
+    @Override
+    protected void authenticate() throws Exception {
+    }
+
+    /**
+     * Build node report, containing average stats for conferences and participants for the last 2 months (and in comparison)
+     *
+     * @return Map of values, in the report columns order
+     * @throws Exception if any error occurs
+     */
+    private Map<String, String> buildMajorNodeReport() throws Exception {
+        // Report columns are the map keys, so the insertion order keeps the csv header stable
+        Map<String, String> reportData = new LinkedHashMap<>();
+
+        // Pexip end_time values are UTC, so days, query bounds and the rollup cutoff are UTC as well
+        LocalDateTime currentDateTime = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDate currentDate = currentDateTime.toLocalDate();
+
+        LocalDate currentMonthStart = currentDate.withDayOfMonth(1);
+
+        LocalDate previousMonthStart;
+        if (currentMonthStart.getMonthValue() == 1) {
+            previousMonthStart = currentDate.minusYears(1).withMonth(12).withDayOfMonth(1);
+        } else {
+            previousMonthStart = currentDate.withMonth(currentMonthStart.getMonthValue() - 1).withDayOfMonth(1);
+        }
+
+
+        // Today is a part of the current month, so daily values are derived from the month-to-date day buckets.
+        // Days that are rolled up already are restored locally, the rest is retrieved concurrently
+        ConferenceDailyStatistics currentMonth = new ConferenceDailyStatistics(currentMonthStart, currentDate.plusDays(1));
+        ConferenceDailyStatistics previousMonth = new ConferenceDailyStatistics(previousMonthStart, currentMonthStart);
+        List<Future<ConferenceDailyStatistics>> responses = new ArrayList<>();
+        try {
+            submitConferenceDailyStatistics(previousMonth, currentDateTime, responses);
+            submitConferenceDailyStatistics(currentMonth, currentDateTime, responses);
+            for (Future<ConferenceDailyStatistics> response : responses) {
+                ConferenceDailyStatistics statistics = awaitResponse(response);
+                currentMonth.addAll(statistics);
+                previousMonth.addAll(statistics);
+            }
+        } finally {
+            responses.forEach(response -> response.cancel(true));
+        }
+
+        long totalDailyDuration = currentMonth.getDuration(currentDate);
+        long totalMonthlyDuration = currentMonth.getTotalDuration();
+        long totalPreviousMonthDuration = previousMonth.getTotalDuration();
+        long participantsDailyCount = currentMonth.getParticipants(currentDate);
+        long participantsMonthlyCount = currentMonth.getTotalParticipants();
+        long participantsPreviousMonthCount = previousMonth.getTotalParticipants();
+
+        long conferencesDailyCount = currentMonth.getConferences(currentDate);
+        long conferencesMonthlyCount = currentMonth.getTotalConferences();
+        long conferencesPreviousMonthCount = previousMonth.getTotalConferences();
+
+        long averageDurationDaily = safeDivision(totalDailyDuration, conferencesDailyCount);
+        long averageDurationMonthly = safeDivision(totalMonthlyDuration, conferencesMonthlyCount);
+        long averageDurationPreviousMonth = safeDivision(totalPreviousMonthDuration, conferencesPreviousMonthCount);
+
+        long averageParticipantsDaily = safeDivision(participantsDailyCount, conferencesDailyCount);
+        long averageParticipantsMonthly = safeDivision(participantsMonthlyCount, conferencesMonthlyCount);
+        long averageParticipantsLastMonth = safeDivision(participantsPreviousMonthCount, conferencesPreviousMonthCount);
+
+        reportData.put("ConferencesDaily", String.valueOf(conferencesDailyCount));
+        reportData.put("ConferencesDurationDaily", String.valueOf(totalDailyDuration));
+        reportData.put("ParticipantsSumDaily", String.valueOf(participantsDailyCount));
+        reportData.put("AvgDurationDaily", String.valueOf(averageDurationDaily));
+        reportData.put("AvgParticipantsDaily", String.valueOf(averageParticipantsDaily));
+        reportData.put("ConferencesMonthly", String.valueOf(conferencesMonthlyCount));
+        reportData.put("ConferencesPreviousMonth", String.valueOf(conferencesPreviousMonthCount));
+        reportData.put("ConferencesMonthlyDiff", String.valueOf(conferencesMonthlyCount - conferencesPreviousMonthCount));
+        reportData.put("DurationMonthly", String.valueOf(totalMonthlyDuration));
+        reportData.put("DurationPreviousMonth", String.valueOf(totalPreviousMonthDuration));
+        reportData.put("DurationMonthlyDiff", String.valueOf(totalMonthlyDuration - totalPreviousMonthDuration));
+        reportData.put("ParticipantsMonthly", String.valueOf(participantsMonthlyCount));
+        reportData.put("ParticipantsPreviousMonth", String.valueOf(participantsPreviousMonthCount));
+        reportData.put("ParticipantsMonthlyDiff", String.valueOf(participantsMonthlyCount - participantsPreviousMonthCount));
+        reportData.put("DurationAvgMonthly", String.valueOf(averageDurationMonthly));
+        reportData.put("DurationAvgPreviousMonth", String.valueOf(averageDurationPreviousMonth));
+        reportData.put("DurationAvgMonthlyDiff", String.valueOf(averageDurationMonthly - averageDurationPreviousMonth));
+        reportData.put("ParticipantsAvgMonthly", String.valueOf(averageParticipantsMonthly));
+        reportData.put("ParticipantsAvgPreviousMonth", String.valueOf(averageParticipantsLastMonth));
+        reportData.put("ParticipantsAvgMonthlyDiff", String.valueOf(averageParticipantsMonthly - averageParticipantsLastMonth));
+
+        return reportData;
+    }
+
+    /**
+     * Make safe division operation
+     *
+     * @param totalNumber the total sum value
+     * @param div         division value
+     * @return long end division result
+     */
+    private long safeDivision(long totalNumber, long div) {
+        if (div == 0 || totalNumber == 0) {
+            return 0;
+        }
+        return totalNumber / div;
+    }
+
+    /**
+     * Fill in {@code statistics} with the historical conferences of its period. Full past days are restored
+     * from {@link #conferenceRollupStore}, if available, consecutive days that are not rolled up yet are
+     * requested with a single request each, the current day is always requested.
+     *
+     * @param statistics      statistics of the period to fill in
+     * @param currentDateTime current date and time
+     * @param responses       list to add submitted requests to
+     * @throws IOException if rollups cannot be read
+     */
+    private void submitConferenceDailyStatistics(ConferenceDailyStatistics statistics, LocalDateTime currentDateTime,
+                                                 List<Future<ConferenceDailyStatistics>> responses) throws IOException {
+        LocalDate today = currentDateTime.toLocalDate();
+        LocalDate periodEnd = statistics.getPeriodEnd();
+        LocalDate missingRangeStart = null;
+        LocalDate day = statistics.getPeriodStart();
+        for (; day.isBefore(periodEnd) && day.isBefore(today); day = day.plusDays(1)) {
+            if (conferenceRollupStore == null || !conferenceRollupStore.restore(day, statistics)) {
+                if (missingRangeStart == null) {
+                    missingRangeStart = day;
+                }
+            } else if (missingRangeStart != null) {
+                responses.add(submitConferenceDailyStatistics(missingRangeStart, day, String.valueOf(day), true));
+                missingRangeStart = null;
+            }
+        }
+        if (missingRangeStart != null) {
+            responses.add(submitConferenceDailyStatistics(missingRangeStart, day, String.valueOf(day), true));
+        }
+        if (periodEnd.isAfter(today)) {
+            responses.add(submitConferenceDailyStatistics(today, periodEnd, String.valueOf(currentDateTime), false));
+        }
+    }
+
+    /**
+     * Submit retrieval of the historical conferences, accumulating them into per-day buckets page by page
+     *
+     * @param periodStart first day of the period (inclusive)
+     * @param periodEnd   last day of the period (exclusive)
+     * @param endTime     end_time upper bound (exclusive) of the request
+     * @param rollUp      whether the period consists of full past days, that should be stored in {@link #conferenceRollupStore}
+     * @return {@link Future} of the period statistics
+     */
+    private Future<ConferenceDailyStatistics> submitConferenceDailyStatistics(LocalDate periodStart, LocalDate periodEnd, String endTime, boolean rollUp) {
+        return reportRequestsExecutorService.submit(() -> {
+            ConferenceDailyStatistics statistics = new ConferenceDailyStatistics(periodStart, periodEnd);
+            fetchPages(String.format(HISTORICAL_CONFERENCE_URI, responsePageSize, periodStart, endTime), CONFERENCES_RESPONSE_TYPE,
+                    page -> page.forEach(statistics::add));
+            ConferenceRollupStore rollupStore = conferenceRollupStore;
+            if (rollUp && rollupStore != null && statistics.isFullyBucketed()) {
+                try {
+                    rollupStore.store(statistics);
+                } catch (IOException e) {
+                    logger.warn("Unable to store conference rollups for " + periodStart + " - " + periodEnd, e);
+                }
+            }
+            return statistics;
+        });
+    }
+
+    /**
+     * Build and send historical report for conferences and participants over email.
+     * The reporting period is requested by {@link #historicalReportSliceHours} slices, conferences and
+     * participants slices are retrieved concurrently.
+     *
+     * @throws Exception if any error occurs
+     */
+    private void retrieveHistoricalInfo() throws Exception {
+        // Pexip end_time values are UTC, so slice boundaries are UTC too, and full past days are UTC days
+        LocalDateTime currentDateTime = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime dateFrom = currentDateTime.minusDays(daysBackReports);
+
+        CompiledModel conferenceModel = compiledMapping.getModel("ConferenceHistoricalReportStats");
+        CompiledModel participantModel = compiledMapping.getModel("ParticipantHistoricalReportStats");
+        // Both streams start fetching right away, participants slices are retrieved while conferences are written
+        HistoricalReportStream conferences = new HistoricalReportStream(HISTORICAL_CONFERENCE_URI, "conference", conferenceModel, dateFrom, currentDateTime);
+        HistoricalReportStream participants = new HistoricalReportStream(HISTORICAL_PARTICIPANTS_URI, "participant", participantModel, dateFrom, currentDateTime);
+        try {
+            ReportWrapper conferencesReportWrapper = new ReportWrapper(String.format("conferences_logs_%s_%s", dateFrom, currentDateTime),
+                    conferenceModel.getPropertyNames(), conferences::writeTo);
+            ReportWrapper participantsReportWrapper = new ReportWrapper(String.format("participants_logs_%s_%s", dateFrom, currentDateTime),
+                    participantModel.getPropertyNames(), participants::writeTo);
+
+            sendReportsEmail(Arrays.asList(conferencesReportWrapper, participantsReportWrapper));
+        } finally {
+            conferences.cancel();
+            participants.cancel();
+        }
+    }
+
+    /*TODO: OTJ for V2:*/
+    /*
+    private Map<String, String> retrieveOneTouchJoinMeetingsPerEndpointDetails(String endpoint) throws Exception {
+        JsonNode response = doGet(String.format(ONE_TOUCH_JOIN_MEETINGS_PER_ENDPOINT_URI, endpoint), JsonNode.class);
+        return null;
+    }
+
+    private Map<String, String> retrieveOneTouchJoinMeetingsPerDateDetails(String date) throws Exception {
+        JsonNode response = doGet(String.format(ONE_TOUCH_JOIN_MEETINGS_PER_DATE_URI, date), JsonNode.class);
+        return null;
+    }
+    */
+
+    /**
+     * Build a list of conferencing nodes attached to the management node, as Aggregated Devices
+     *
+     * @param conferencingNodesObjects {@link #CONFERENCING_NODES_URI} response objects
+     * @param configurations           conferencing nodes configuration properties by node name
+     * @return {@link List} of {@link AggregatedDevice} instances, containing the data extracted from {@link #CONFERENCING_NODES_URI}
+     * using model-mapping.yml mapping
+     */
+    List<AggregatedDevice> retrieveConferencingNodes(ArrayNode conferencingNodesObjects, Map<String, Map<String, String>> configurations) {
+        ObjectNode response = JsonNodeFactory.instance.objectNode();
+        response.set(OBJECTS, conferencingNodesObjects);
+        FlightRecorderEvents.Recording recording = FlightRecorderEvents.beginModelMapping("generic");
+        List<AggregatedDevice> devices = aggregatedDeviceProcessor.extractDevices(response);
+        recording.end(devices.size(), false);
+
+        devices.forEach(aggregatedDevice -> {
+            Map<String, String> configuration = configurations.get(aggregatedDevice.getDeviceName());
+            if (configuration != null) {
+                aggregatedDevice.getProperties().putAll(configuration);
+            }
+        });
+
+        devices.forEach(aggregatedDevice -> {
+            List<Statistics> statistics = new ArrayList<>();
+            ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+            statistics.add(extendedStatistics);
+            extendedStatistics.setStatistics(aggregatedDevice.getProperties());
+            /*TODO: apply when SY v5.2 is out*/
+            //extendedStatistics.setDynamicStatistics(aggregatedDevice.getDynamicStatistics());
+            aggregatedDevice.setMonitoredStatistics(statistics);
+        });
+        return devices;
+    }
+
+    /**
+     * Retrieve conferencing nodes configuration, using {@link #conferencingNodesConfiguration} cache.
+     * Configuration is changed rarely, so it is only requested from {@link #CONFERENCING_NODES_CONFIGURATION_URI} if
+     * the cache has expired, or there is a conferencing node the configuration is not known for yet.
+     * Nodes that still have no configuration after the refresh are kept in {@link #unconfiguredNodeNames}, so a renamed
+     * or transient node does not trigger a refresh every cycle, until the cache expires.
+     *
+     * @param conferencingNodesObjects        {@link #CONFERENCING_NODES_URI} response objects
+     * @param conferencingNodesConfigResponse configuration response, if it was requested already, or null
+     * @return {@link Map} of conferencing nodes configuration properties by node name
      * @throws Exception if any error occurs
      */
-    private List<Map<String, String>> extractParticipants(JsonNode response) throws Exception {
-        List<Map<String, String>> participants = new ArrayList<>();
-        ArrayNode participantObjects = (ArrayNode) response.get(OBJECTS);
+    private Map<String, Map<String, String>> retrieveConferencingNodesConfiguration(ArrayNode conferencingNodesObjects,
+                                                                                    Future<ArrayNode> conferencingNodesConfigResponse) throws Exception {
+        if (conferencingNodesConfigResponse != null) {
+            updateConferencingNodesConfiguration(awaitResponse(conferencingNodesConfigResponse));
+            updateUnconfiguredNodeNames(conferencingNodesObjects);
+            return conferencingNodesConfiguration;
+        }
+        Map<String, Map<String, String>> configurations = conferencingNodesConfiguration;
+        Set<String> unconfiguredNodes = unconfiguredNodeNames;
+        for (JsonNode node : conferencingNodesObjects) {
+            JsonNode nodeName = node.get("name");
+            if (nodeName != null && !configurations.containsKey(nodeName.asText()) && !unconfiguredNodes.contains(nodeName.asText())) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Configuration of conferencing node " + nodeName.asText() + " is not cached, refreshing configuration cache.");
+                }
+                ArrayNode conferencingNodesConfigObjects = JsonNodeFactory.instance.arrayNode();
+                fetchObjects(String.format(CONFERENCING_NODES_CONFIGURATION_URI, responsePageSize),
+                        compiledMapping.getModel("ConferencingNodesConfig").getReferencedFields(), conferencingNodesConfigObjects::add);
+                updateConferencingNodesConfiguration(conferencingNodesConfigObjects);
+                updateUnconfiguredNodeNames(conferencingNodesObjects);
+                return conferencingNodesConfiguration;
+            }
+        }
+        return configurations;
+    }
+
+    /**
+     * Update {@link #unconfiguredNodeNames} with the conferencing nodes missing in the refreshed configuration
+     *
+     * @param conferencingNodesObjects {@link #CONFERENCING_NODES_URI} response objects
+     */
+    private void updateUnconfiguredNodeNames(ArrayNode conferencingNodesObjects) {
+        Map<String, Map<String, String>> configurations = conferencingNodesConfiguration;
+        Set<String> unconfiguredNodes = new HashSet<>();
+        for (JsonNode node : conferencingNodesObjects) {
+            JsonNode nodeName = node.get("name");
+            if (nodeName != null && !configurations.containsKey(nodeName.asText())) {
+                unconfiguredNodes.add(nodeName.asText());
+            }
+        }
+        if (!unconfiguredNodes.isEmpty() && logger.isDebugEnabled()) {
+            logger.debug("No configuration found for conferencing nodes " + unconfiguredNodes + ", skipping until the configuration cache expires.");
+        }
+        unconfiguredNodeNames = Collections.unmodifiableSet(unconfiguredNodes);
+    }
+
+    /**
+     * Map conferencing nodes configuration with ConferencingNodesConfig model and update {@link #conferencingNodesConfiguration}.
+     * Mapped properties are immutable, so they are safely reused between polling cycles.
+     *
+     * @param conferencingNodesConfigObjects {@link #CONFERENCING_NODES_CONFIGURATION_URI} response objects
+     */
+    private void updateConferencingNodesConfiguration(ArrayNode conferencingNodesConfigObjects) {
+        Map<String, Map<String, String>> configurations = new HashMap<>();
+        CompiledModel configurationModel = compiledMapping.getModel("ConferencingNodesConfig");
+        FlightRecorderEvents.Recording recording = FlightRecorderEvents.beginModelMapping(configurationModel.getName());
+        conferencingNodesConfigObjects.forEach(node -> {
+            Map<String, String> conferenceNodesConfig = configurationModel.map(node);
+            String nodeName = conferenceNodesConfig.get("Configuration#Name");
+            if (nodeName != null) {
+                configurations.put(nodeName, Collections.unmodifiableMap(conferenceNodesConfig));
+            }
+        });
+        recording.end(conferencingNodesConfigObjects.size(), false);
+        conferencingNodesConfiguration = Collections.unmodifiableMap(configurations);
+        conferencingNodesConfigurationTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Retrieve conferences status as {@link List} of {@link Map}, map instance per conference.
+     * Values are extracted using the compiled model-mapping.yml models.
+     *
+     * @param conferenceObjects      {@link #CONFERENCE_URI} response objects
+     * @param conferenceShardObjects {@link #CONFERENCE_SHARD_URI} response objects
+     * @return {@link List} of {@link Map} containing {@link String} key:value pairs, representing conferences statuses
+     */
+    List<Map<String, String>> retrieveConferencesStatus(ArrayNode conferenceObjects, ArrayNode conferenceShardObjects) {
+        List<Map<String, String>> conferences = new ArrayList<>();
+
+        if (!conferenceShardObjects.isEmpty() && !conferenceObjects.isEmpty()) {
+            // Shards are mapped and indexed by conference id once, so every conference is enriched with a single lookup
+            Map<String, Map<String, String>> conferenceShardsById = new HashMap<>(conferenceShardObjects.size() * 2);
+            CompiledModel conferenceShardModel = compiledMapping.getModel("ConferenceShard");
+            FlightRecorderEvents.Recording shardsRecording = FlightRecorderEvents.beginModelMapping(conferenceShardModel.getName());
+            conferenceShardObjects.forEach(shard -> {
+                JsonNode shardId = shard.get("id");
+                if (shardId == null) {
+                    return;
+                }
+                // Multiple shards of the same conference are merged, the latest shard values take precedence
+                conferenceShardsById.merge(shardId.asText(), conferenceShardModel.map(shard), (existing, latest) -> {
+                    existing.putAll(latest);
+                    return existing;
+                });
+            });
+            shardsRecording.end(conferenceShardObjects.size(), false);
 
-        if (participantObjects != null && !participantObjects.isEmpty()) {
-            participantObjects.forEach(node -> {
-                /* After 5.2 will be changed to Map<String, String> participantReport = new HashMap<>(); */
-                AggregatedDevice participantReport = new AggregatedDevice();
-                aggregatedDeviceProcessor.applyProperties(participantReport, node, "Participant");
-                participants.add(participantReport.getProperties());
+            CompiledModel conferenceStatusModel = compiledMapping.getModel("ConferenceStatus");
+            FlightRecorderEvents.Recording conferencesRecording = FlightRecorderEvents.beginModelMapping(conferenceStatusModel.getName());
+            int conferenceCapacity = (int) ((conferenceStatusModel.getPropertyNames().size() + conferenceShardModel.getPropertyNames().size()) / 0.75f) + 1;
+            conferenceObjects.forEach(node -> {
+                Map<String, String> conference = new HashMap<>(conferenceCapacity);
+                conferenceStatusModel.map(node, conference);
+                Map<String, String> conferenceShard = conferenceShardsById.get(conference.get("ID"));
+                if (conferenceShard != null) {
+                    conference.putAll(conferenceShard);
+                }
+                conferences.add(conference);
             });
+            conferencesRecording.end(conferences.size(), false);
         }
-        return participants;
+        return conferences;
     }
 
     @Override
     public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-        List<Map<String, String>> conferences = retrieveConferencesStatus();
-        List<Map<String, String>> participants = retrieveParticipants();
-        List<AggregatedDevice> conferencingNodes = retrieveConferencingNodes();
+        startStatisticsCollector();
+        updateValidRetrieveStatisticsTimestamp();
+        Map<String, AggregatedDevice> snapshot = aggregatedDevicesSnapshot;
+        if (!emitChangedDevicesOnly) {
+            return new ArrayList<>(snapshot.values());
+        }
+        List<AggregatedDevice> changedDevices = new ArrayList<>();
+        for (AggregatedDevice aggregatedDevice : snapshot.values()) {
+            if (changedDeviceIds.remove(aggregatedDevice.getDeviceId())) {
+                changedDevices.add(aggregatedDevice);
+            }
+        }
+        return changedDevices;
+    }
+
+    /**
+     * Publish new {@link #aggregatedDevicesSnapshot}, comparing conferencing nodes with the previous snapshot
+     * property by property. Nodes that have not changed are kept as they are, the previous device instances are reused.
+     * Nodes where only {@link #VOLATILE_PROPERTIES} have changed are published with the latest values, but keep
+     * the previous timestamp and are not reported as changed, unless {@link #volatilePropertiesRefreshInterval} has passed.
+     * Changed nodes get a new timestamp, are marked in {@link #changedDeviceIds} and reuse the previous controllable
+     * property instances, where these did not change.
+     *
+     * @param conferencingNodes conferencing nodes of the latest collection cycle
+     * @return number of changed conferencing nodes
+     */
+    int updateAggregatedDevicesSnapshot(List<AggregatedDevice> conferencingNodes) {
+        Map<String, AggregatedDevice> previousSnapshot = aggregatedDevicesSnapshot;
+        Map<String, AggregatedDevice> conferencingNodesById = new LinkedHashMap<>(conferencingNodes.size() * 2);
+        long timestamp = System.currentTimeMillis();
+        int changedConferencingNodes = 0;
+        for (AggregatedDevice aggregatedDevice : conferencingNodes) {
+            String deviceId = aggregatedDevice.getDeviceId();
+            AggregatedDevice previousDevice = previousSnapshot.get(deviceId);
+            DeviceChange change = previousDevice == null ? DeviceChange.SIGNIFICANT : compareDevices(previousDevice, aggregatedDevice);
+            if (change == DeviceChange.NONE) {
+                conferencingNodesById.put(deviceId, previousDevice);
+                continue;
+            }
+            if (previousDevice != null) {
+                reuseControllableProperties(previousDevice, aggregatedDevice);
+            }
+            if (change == DeviceChange.VOLATILE && previousDevice.getTimestamp() != null
+                    && timestamp - previousDevice.getTimestamp() < volatilePropertiesRefreshInterval) {
+                aggregatedDevice.setTimestamp(previousDevice.getTimestamp());
+                conferencingNodesById.put(deviceId, aggregatedDevice);
+                continue;
+            }
+            aggregatedDevice.setTimestamp(timestamp);
+            conferencingNodesById.put(deviceId, aggregatedDevice);
+            changedDeviceIds.add(deviceId);
+            changedConferencingNodes++;
+        }
+        // Devices that are gone are not going to be reported anymore
+        changedDeviceIds.retainAll(conferencingNodesById.keySet());
+        aggregatedDevicesSnapshot = Collections.unmodifiableMap(conferencingNodesById);
+        return changedConferencingNodes;
+    }
+
+    /**
+     * Compare the conferencing node with the previous snapshot, property by property
+     *
+     * @param previousDevice device of the previous snapshot
+     * @param currentDevice  device of the latest collection cycle
+     * @return {@link DeviceChange#NONE} if name, status, properties and controllable properties of the device are the same,
+     * {@link DeviceChange#VOLATILE} if only {@link #VOLATILE_PROPERTIES} values differ, {@link DeviceChange#SIGNIFICANT} otherwise
+     */
+    private DeviceChange compareDevices(AggregatedDevice previousDevice, AggregatedDevice currentDevice) {
+        if (!Objects.equals(previousDevice.getDeviceName(), currentDevice.getDeviceName())
+                || !Objects.equals(previousDevice.getDeviceOnline(), currentDevice.getDeviceOnline())) {
+            return DeviceChange.SIGNIFICANT;
+        }
+        List<AdvancedControllableProperty> previousControls = previousDevice.getControllableProperties();
+        List<AdvancedControllableProperty> currentControls = currentDevice.getControllableProperties();
+        int previousControlsCount = previousControls == null ? 0 : previousControls.size();
+        int currentControlsCount = currentControls == null ? 0 : currentControls.size();
+        if (previousControlsCount != currentControlsCount) {
+            return DeviceChange.SIGNIFICANT;
+        }
+        for (int i = 0; i < currentControlsCount; i++) {
+            if (!isSameControl(previousControls.get(i), currentControls.get(i))) {
+                return DeviceChange.SIGNIFICANT;
+            }
+        }
+
+        Map<String, String> previousProperties = previousDevice.getProperties() == null ? Collections.emptyMap() : previousDevice.getProperties();
+        Map<String, String> currentProperties = currentDevice.getProperties() == null ? Collections.emptyMap() : currentDevice.getProperties();
+        // Same number of properties, all present in the previous snapshot, means the same property names
+        if (previousProperties.size() != currentProperties.size()) {
+            return DeviceChange.SIGNIFICANT;
+        }
+        DeviceChange change = DeviceChange.NONE;
+        for (Map.Entry<String, String> property : currentProperties.entrySet()) {
+            String previousValue = previousProperties.get(property.getKey());
+            if (previousValue == null && !previousProperties.containsKey(property.getKey())) {
+                return DeviceChange.SIGNIFICANT;
+            }
+            if (!Objects.equals(previousValue, property.getValue())) {
+                if (!VOLATILE_PROPERTIES.contains(property.getKey())) {
+                    return DeviceChange.SIGNIFICANT;
+                }
+                change = DeviceChange.VOLATILE;
+            }
+        }
+        return change;
+    }
+
+    /**
+     * Replace controllable properties of the changed device with the previous instances, if these did not change
+     *
+     * @param previousDevice device of the previous snapshot
+     * @param currentDevice  device of the latest collection cycle
+     */
+    private void reuseControllableProperties(AggregatedDevice previousDevice, AggregatedDevice currentDevice) {
+        List<AdvancedControllableProperty> previousControls = previousDevice.getControllableProperties();
+        List<AdvancedControllableProperty> currentControls = currentDevice.getControllableProperties();
+        if (previousControls == null || previousControls.isEmpty() || currentControls == null) {
+            return;
+        }
+        Map<String, AdvancedControllableProperty> previousControlsByName = new HashMap<>(previousControls.size() * 2);
+        previousControls.forEach(control -> previousControlsByName.put(control.getName(), control));
+        currentControls.replaceAll(control -> {
+            AdvancedControllableProperty previousControl = previousControlsByName.get(control.getName());
+            return previousControl != null && isSameControl(previousControl, control) ? previousControl : control;
+        });
+    }
+
+    /**
+     * Compare controllable properties, regardless of the timestamp
+     *
+     * @param previousControl controllable property of the previous snapshot
+     * @param currentControl  controllable property of the latest collection cycle
+     * @return true if name, value and type of the controllable properties are the same
+     */
+    private boolean isSameControl(AdvancedControllableProperty previousControl, AdvancedControllableProperty currentControl) {
+        return Objects.equals(previousControl.getName(), currentControl.getName())
+                && Objects.equals(previousControl.getValue(), currentControl.getValue())
+                && Objects.equals(String.valueOf(previousControl.getType()), String.valueOf(currentControl.getType()));
+    }
+
+    /**
+     * Start {@link PexipStatisticsCollector}, unless it is running already
+     */
+    private synchronized void startStatisticsCollector() {
+        if (executorService == null) {
+            // Adapter is destroyed when its properties are changed on the fly, so the collector has to be (re)started lazily
+            executorService = Executors.newSingleThreadExecutor();
+            statisticsCollector = new PexipStatisticsCollector();
+            executorService.submit(statisticsCollector);
+        }
+    }
+
+    /**
+     * Collect conferencing nodes statistics, along with active conferences data, if {@link #displayConferencesStatistics}
+     * is set to true. Called by {@link PexipStatisticsCollector}, the result is published as
+     * {@link #aggregatedDevicesSnapshot}
+     *
+     * @return {@link List} of {@link AggregatedDevice} representing conferencing nodes
+     * @throws Exception if any error occurs
+     */
+    List<AggregatedDevice> collectConferencingNodesStatistics() throws Exception {
+        FlightRecorderEvents.Recording recording = FlightRecorderEvents.beginPollCycle();
+        long cycleStart = System.nanoTime();
+        boolean failed = true;
+        int nodesCount = 0;
+        try {
+            List<AggregatedDevice> conferencingNodes = pollConferencingNodesStatistics();
+            nodesCount = conferencingNodes.size();
+            adapterMetrics.get(POLL_CYCLE_METRICS).addRows(nodesCount);
+            failed = false;
+            return conferencingNodes;
+        } finally {
+            adapterMetrics.record(POLL_CYCLE_METRICS, cycleStart, failed);
+            recording.end(nodesCount, failed);
+        }
+    }
+
+    /**
+     * Issue the requests of a single collection cycle and map their responses,
+     * see {@link #collectConferencingNodesStatistics()}
+     *
+     * @return {@link List} of {@link AggregatedDevice} representing conferencing nodes
+     * @throws Exception if any error occurs
+     */
+    private List<AggregatedDevice> pollConferencingNodesStatistics() throws Exception {
+        boolean collectConferences = displayConferencesStatistics;
+        // Requests below do not depend on each other, so they are issued concurrently and joined before the merge.
+        // Conferences and participants are only needed when conferences statistics are displayed on the nodes.
+        // Conferencing nodes are mapped by the generic model, which has a filter expression, so all the fields are kept.
+        // If any request fails, the rest are cancelled, so they do not hold the executor threads and connections
+        List<Future<ArrayNode>> pendingResponses = new ArrayList<>();
+        try {
+            Future<ArrayNode> conferencingNodesResponse = submitGet(String.format(CONFERENCING_NODES_URI, responsePageSize), null, pendingResponses);
+            Future<ArrayNode> conferencingNodesConfigResponse = null;
+            if (System.currentTimeMillis() - conferencingNodesConfigurationTimestamp >= configurationCacheTtl) {
+                conferencingNodesConfigResponse = submitGet(String.format(CONFERENCING_NODES_CONFIGURATION_URI, responsePageSize),
+                        compiledMapping.getModel("ConferencingNodesConfig").getReferencedFields(), pendingResponses);
+            }
+            Future<ArrayNode> conferencesResponse = null;
+            Future<ArrayNode> conferenceShardsResponse = null;
+            Future<ArrayNode> participantsResponse = null;
+            if (collectConferences) {
+                conferencesResponse = submitGet(String.format(CONFERENCE_URI, responsePageSize),
+                        referencedFields(compiledMapping.getModel("ConferenceStatus")), pendingResponses);
+                conferenceShardsResponse = submitGet(String.format(CONFERENCE_SHARD_URI, responsePageSize),
+                        referencedFields(compiledMapping.getModel("ConferenceShard"), "id"), pendingResponses);
+                participantsResponse = submitGet(String.format(PARTICIPANTS_URI, responsePageSize), PARTICIPANT_COUNTER_FIELDS, pendingResponses);
+            }
 
-        knownConferences.clear();
-        knownParticipants.clear();
+            ArrayNode conferencingNodesObjects = awaitResponse(conferencingNodesResponse);
+            Map<String, Map<String, String>> configuration = retrieveConferencingNodesConfiguration(conferencingNodesObjects, conferencingNodesConfigResponse);
+            long mappingStart = System.nanoTime();
+            List<AggregatedDevice> conferencingNodes = retrieveConferencingNodes(conferencingNodesObjects, configuration);
+            adapterMetrics.record(NODES_MAPPING_METRICS, mappingStart, false).addRows(conferencingNodesObjects.size());
 
-        if (!displayConferencesStatistics) {
+            if (!collectConferences) {
+                conferencePropertyKeys.clear();
+                controlIndex = ControlIndex.EMPTY;
+                return conferencingNodes;
+            }
+            ArrayNode conferences = awaitResponse(conferencesResponse);
+            ArrayNode conferenceShards = awaitResponse(conferenceShardsResponse);
+            ArrayNode participants = awaitResponse(participantsResponse);
+            long mergeStart = System.nanoTime();
+            applyConferencesStatistics(conferencingNodes, conferences, conferenceShards, participants);
+            adapterMetrics.record(CONFERENCES_MERGE_METRICS, mergeStart, false).addRows(conferences.size() + participants.size());
             return conferencingNodes;
+        } finally {
+            pendingResponses.forEach(response -> response.cancel(true));
+        }
+    }
+
+    /**
+     * Add active conferences statistics and controls to the conferencing nodes, and publish the {@link #controlIndex}
+     * of the conferences and participants
+     *
+     * @param conferencingNodes      conferencing nodes, as provided by {@link #retrieveConferencingNodes(ArrayNode, Map)}
+     * @param conferenceObjects      {@link #CONFERENCE_URI} response objects
+     * @param conferenceShardObjects {@link #CONFERENCE_SHARD_URI} response objects
+     * @param participants           {@link #PARTICIPANTS_URI} response objects
+     */
+    void applyConferencesStatistics(List<AggregatedDevice> conferencingNodes, ArrayNode conferenceObjects, ArrayNode conferenceShardObjects,
+                                    ArrayNode participants) {
+        List<Map<String, String>> conferences = retrieveConferencesStatus(conferenceObjects, conferenceShardObjects);
+        // Control lookup index is built aside and published at once, when the cycle data is complete
+        Map<String, String> conferenceIds = new HashMap<>();
+        Map<String, List<String>> participantIds = new HashMap<>();
+        Map<String, List<String>> conferenceIdsByNode = new HashMap<>();
+        Map<String, List<String>> participantIdsByConference = new HashMap<>();
+        mergeConferencesStatistics(conferencingNodes, indexConferencesByNodeAddress(conferences),
+                countParticipantsByConference(participants, participantIds, participantIdsByConference), conferenceIds, conferenceIdsByNode);
+        controlIndex = new ControlIndex(conferenceIds, participantIds, conferenceIdsByNode, participantIdsByConference);
+    }
+
+    /**
+     * Group conferences by the address of the conferencing node they are running on, in a single pass
+     *
+     * @param conferences conferences statuses, as provided by {@link #retrieveConferencesStatus(ArrayNode, ArrayNode)}
+     * @return {@link Map} of node address to the list of conferences statuses
+     */
+    private Map<String, List<Map<String, String>>> indexConferencesByNodeAddress(List<Map<String, String>> conferences) {
+        Map<String, List<Map<String, String>>> conferencesByNodeAddress = new HashMap<>();
+        for (Map<String, String> conference : conferences) {
+            String nodeAddress = conference.get("NodeAddress");
+            if (nodeAddress != null) {
+                conferencesByNodeAddress.computeIfAbsent(nodeAddress, address -> new ArrayList<>()).add(conference);
+            }
+        }
+        return conferencesByNodeAddress;
+    }
+
+    /**
+     * Count participants per conference name and collect participant ids by lookup key, in a single pass.
+     * Every participant id is added by the id itself, by {@code <conference>:<display name>} and by display name,
+     * so that repeated display names are detected as ambiguous by {@link ControlIndex#getParticipantId(String)}.
+     * Only a few fields are needed for that, so participants are not mapped with the Participant model here.
+     *
+     * @param participantObjects         {@link #PARTICIPANTS_URI} response objects
+     * @param participantIds             map to add participant ids by lookup key to
+     * @param participantIdsByConference map to add participant ids by conference name to
+     * @return {@link Map} of conference name to the number of its participants
+     */
+    private Map<String, Integer> countParticipantsByConference(ArrayNode participantObjects, Map<String, List<String>> participantIds,
+                                                               Map<String, List<String>> participantIdsByConference) {
+        Map<String, Integer> participantsCountByConference = new HashMap<>();
+        for (JsonNode participant : participantObjects) {
+            JsonNode conference = participant.get("conference");
+            JsonNode participantId = participant.get("id");
+            boolean hasId = participantId != null && !participantId.isNull();
+            boolean hasConference = conference != null && !conference.isNull();
+            if (hasConference) {
+                participantsCountByConference.merge(conference.asText(), 1, Integer::sum);
+                if (hasId) {
+                    participantIdsByConference.computeIfAbsent(conference.asText(), name -> new ArrayList<>()).add(participantId.asText());
+                }
+            }
+            if (!hasId) {
+                continue;
+            }
+            String id = participantId.asText();
+            participantIds.computeIfAbsent(id, key -> new ArrayList<>(1)).add(id);
+            JsonNode displayName = participant.get("display_name");
+            if (displayName != null && !displayName.isNull()) {
+                participantIds.computeIfAbsent(displayName.asText(), key -> new ArrayList<>(1)).add(id);
+                if (hasConference) {
+                    participantIds.computeIfAbsent(conference.asText() + ":" + displayName.asText(), key -> new ArrayList<>(1)).add(id);
+                }
+            }
         }
+        return participantsCountByConference;
+    }
+
+    /**
+     * Add active conferences statistics and controls to the conferencing nodes the conferences are running on.
+     * Property keys and controls of each conference are taken from {@link #conferencePropertyKeys}, so these are
+     * built once per conference, keys of the conferences that are no longer active are evicted.
+     *
+     * @param conferencingNodes             conferencing nodes to add conferences statistics to
+     * @param conferencesByNodeAddress      conferences, grouped by {@link #indexConferencesByNodeAddress(List)}
+     * @param participantsCountByConference participants count, as provided by {@link #countParticipantsByConference(ArrayNode, Map, Map)}
+     * @param conferenceIds                 map to add conference ids by conference name to
+     * @param conferenceIdsByNode           map to add conference ids by conferencing node device id to
+     */
+    private void mergeConferencesStatistics(List<AggregatedDevice> conferencingNodes, Map<String, List<Map<String, String>>> conferencesByNodeAddress,
+                                            Map<String, Integer> participantsCountByConference, Map<String, String> conferenceIds,
+                                            Map<String, List<String>> conferenceIdsByNode) {
+        boolean participantLogsAvailable = smtpDataProvided();
+        Set<String> activeConferences = new HashSet<>();
         conferencingNodes.forEach(aggregatedDevice -> {
-            conferences.stream().filter(map -> map.get("NodeAddress")
-                    .equals(aggregatedDevice.getProperties().get("Configuration#NodeAddress"))).forEach(map -> {
-                String groupPrefix = map.get("Name");
-                map.keySet().forEach(s -> aggregatedDevice.getProperties().put("Conference:" + groupPrefix + "#" + s, map.get(s)));
-                knownConferences.put(groupPrefix, map.get("ID"));
-                aggregatedDevice.getProperties().put("Conference:" + groupPrefix + "#" + "ParticipantsCount",
-                        String.valueOf(participants.stream().filter(data -> data.get("Conference").equals(groupPrefix)).count()));
-
-                aggregatedDevice.getProperties().put("Conference:" + groupPrefix + "#" + "Disconnect", "");
-                aggregatedDevice.getControllableProperties().add(createButton("Conference:" + groupPrefix + "#" + "Disconnect",
-                        "Disconnect", "Disconnecting", 0L));
-
-                if (smtpDataProvided()) {
-                    aggregatedDevice.getProperties().put("Conference:" + groupPrefix + "#" + "ParticipantLogs", "");
-                    aggregatedDevice.getControllableProperties().add(createButton("Conference:" + groupPrefix + "#" + "ParticipantLogs",
-                            "Email Logs", "Sending Email", 0L));
+            List<Map<String, String>> nodeConferences = conferencesByNodeAddress.get(aggregatedDevice.getProperties().get("Configuration#NodeAddress"));
+            if (nodeConferences == null) {
+                return;
+            }
+            Map<String, String> properties = aggregatedDevice.getProperties();
+            List<String> nodeConferenceIds = new ArrayList<>(nodeConferences.size());
+            conferenceIdsByNode.put(aggregatedDevice.getDeviceId(), nodeConferenceIds);
+            properties.put(CONFERENCES_DISCONNECT_ALL, "");
+            aggregatedDevice.getControllableProperties().add(createButton(CONFERENCES_DISCONNECT_ALL, "Disconnect All", "Disconnecting", 0L));
+            nodeConferences.forEach(map -> {
+                String conferenceName = String.valueOf(map.get("Name"));
+                activeConferences.add(conferenceName);
+                ConferencePropertyKeys keys = conferencePropertyKeys.computeIfAbsent(conferenceName, name -> {
+                    String groupPrefix = "Conference:" + name + "#";
+                    return new ConferencePropertyKeys(groupPrefix, createButton(groupPrefix + "Disconnect", "Disconnect", "Disconnecting", 0L),
+                            createButton(groupPrefix + "ParticipantLogs", "Email Logs", "Sending Email", 0L),
+                            createButton(groupPrefix + DISCONNECT_PARTICIPANTS, "Disconnect All", "Disconnecting", 0L));
+                });
+                map.forEach((property, value) -> properties.put(keys.key(property), value));
+                conferenceIds.put(conferenceName, map.get("ID"));
+                if (map.get("ID") != null) {
+                    nodeConferenceIds.add(map.get("ID"));
+                }
+                properties.put(keys.getParticipantsCountKey(), String.valueOf(participantsCountByConference.getOrDefault(conferenceName, 0)));
+
+                properties.put(keys.getDisconnectKey(), "");
+                aggregatedDevice.getControllableProperties().add(keys.getDisconnectButton());
+                properties.put(keys.getDisconnectParticipantsButton().getName(), "");
+                aggregatedDevice.getControllableProperties().add(keys.getDisconnectParticipantsButton());
+
+                if (participantLogsAvailable) {
+                    properties.put(keys.getParticipantLogsKey(), "");
+                    aggregatedDevice.getControllableProperties().add(keys.getParticipantLogsButton());
                 }
             });
         });
-        return conferencingNodes;
+        conferencePropertyKeys.keySet().retainAll(activeConferences);
+    }
+
+    /**
+     * Submit paginated GET request to {@link #requestsExecutorService}, so it is executed concurrently with other requests.
+     * All the pages are collected into a single {@link ArrayNode}, response objects contain the requested fields only
+     *
+     * @param uri              to issue GET request for
+     * @param fields           names of the object fields to keep, or null to keep all the fields
+     * @param pendingResponses list to add the response to, so it can be cancelled if a sibling request fails
+     * @return {@link Future} of the response objects
+     */
+    private Future<ArrayNode> submitGet(String uri, Set<String> fields, List<Future<ArrayNode>> pendingResponses) {
+        Future<ArrayNode> response = requestsExecutorService.submit(() -> {
+            ArrayNode objects = JsonNodeFactory.instance.arrayNode();
+            fetchObjects(uri, fields, objects::add);
+            return objects;
+        });
+        pendingResponses.add(response);
+        return response;
+    }
+
+    /**
+     * Retrieve names of the json fields the model reads, along with the fields that are read directly
+     *
+     * @param model       compiled model
+     * @param extraFields names of the fields that are read directly
+     * @return {@link Set} of json field names, or null if the model may read any field
+     */
+    private Set<String> referencedFields(CompiledModel model, String... extraFields) {
+        Set<String> modelFields = model.getReferencedFields();
+        if (modelFields == null) {
+            return null;
+        }
+        Set<String> fields = new HashSet<>(modelFields);
+        fields.addAll(Arrays.asList(extraFields));
+        return fields;
+    }
+
+    /**
+     * Wait for a response, submitted with {@link #submitGet(String, Set, List)}, unwrapping the original request error if any
+     *
+     * @param response future response to wait for
+     * @param <T> type of the response
+     * @return response
+     * @throws Exception if the request has failed or waiting was interrupted
+     */
+    private <T> T awaitResponse(Future<T> response) throws Exception {
+        try {
+            return response.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieve paginated response, following {@link Meta#getNext()} links until the last page is received.
+     * Pages are received as raw bytes and decoded with {@link ObjectsPageDecoder}, so response objects are handed over
+     * to {@code objectConsumer} one at a time, with the requested fields only, and the page is never built as a
+     * {@link JsonNode} tree. The memory footprint is defined by the raw size of a single page.
+     *
+     * @param uri            first page uri, with the {@link #responsePageSize} limit applied
+     * @param fields         names of the object fields to decode, or null to decode all the fields
+     * @param objectConsumer to process response objects
+     * @throws Exception if any error occurs during page retrieval or processing
+     */
+    private void fetchObjects(String uri, Set<String> fields, ObjectsPageDecoder.ObjectConsumer objectConsumer) throws Exception {
+        String pageUri = uri;
+        while (pageUri != null) {
+            // Cancelled requests stop before the next page, rather than fetching the rest of the pages
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Request " + uri + " is cancelled");
+            }
+            byte[] response = doGet(pageUri, byte[].class);
+            pageUri = response == null ? null : nextPageUri(pageUri, ObjectsPageDecoder.decode(response, fields, objectConsumer));
+        }
+    }
+
+    /**
+     * Retrieve paginated response, following {@link Meta#getNext()} links until the last page is received.
+     * Each page is handed over to {@code pageConsumer} as soon as it arrives.
+     *
+     * @param uri          first page uri, with the {@link #responsePageSize} limit applied
+     * @param responseType type of the response to deserialize pages to
+     * @param pageConsumer to process response objects of each page
+     * @param <T>          type of the response entity
+     * @throws Exception if any error occurs during page retrieval or processing
+     */
+    private <T extends BaseResponseEntity> void fetchPages(String uri, ParameterizedTypeReference<ManagementNodeResponse<T>> responseType,
+                                                           PageConsumer<List<T>> pageConsumer) throws Exception {
+        String pageUri = uri;
+        while (pageUri != null) {
+            ManagementNodeResponse<T> response = doGet(pageUri, responseType);
+            if (response == null) {
+                return;
+            }
+            if (!CollectionUtils.isEmpty(response.getObjects())) {
+                pageConsumer.accept(response.getObjects());
+            }
+            Meta meta = response.getMeta();
+            pageUri = nextPageUri(pageUri, meta == null ? null : meta.getNext());
+        }
+    }
+
+    /**
+     * Convert {@link Meta#getNext()} link, which is an absolute path (/api/admin/status/v1/...), to the uri
+     * relative to the {@link #BASE_URI}, so it can be used with doGet methods
+     *
+     * @param currentUri uri of the current page
+     * @param next       next page link, as provided by the Management Node
+     * @return next page uri or null if there are no more pages
+     */
+    private String nextPageUri(String currentUri, String next) {
+        if (StringUtils.isNullOrEmpty(next) || "null".equals(next)) {
+            return null;
+        }
+        int baseUriIndex = next.indexOf(BASE_URI);
+        String nextUri = baseUriIndex == -1 ? next : next.substring(baseUriIndex + BASE_URI.length());
+        if (nextUri.equals(currentUri)) {
+            // Should never happen, but this would make the pagination loop endless
+            logger.warn("Next page link points to the current page, unable to proceed with pagination: " + next);
+            return null;
+        }
+        return nextUri;
     }
 
     /**
@@ -775,49 +2205,69 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
     }
 
     /**
-     * Send csv files over email to {@link #emailReportsRecipients}
+     * Queue email report to {@link #reportDispatcher}, so the control operation is not blocked by the report
+     * generation and delivery. Email settings are validated right away.
+     *
+     * @param reportName name of the report, requests of a report that is queued or running already are ignored
+     * @param job        report generation and delivery routine
+     * @throws IllegalStateException if email settings are not provided or the reports queue is full
+     */
+    private void queueReport(String reportName, ReportDispatcher.ReportJob job) {
+        if (mailSender == null) {
+            throw new IllegalStateException("SMTP settings are not provided, unable to send email reports");
+        }
+        if (StringUtils.isNullOrEmpty(emailReportsRecipients)) {
+            throw new IllegalStateException("No email recipients specified. Please set emailReportsRecipients csv property");
+        }
+        ReportDispatcher.ReportJob measuredJob = () -> {
+            FlightRecorderEvents.Recording recording = FlightRecorderEvents.beginReport(reportName);
+            long reportStart = System.nanoTime();
+            boolean failed = true;
+            try {
+                job.run();
+                failed = false;
+            } finally {
+                adapterMetrics.record(REPORT_METRICS, reportStart, failed);
+                recording.end(0, failed);
+            }
+        };
+        if (!reportDispatcher.submit(reportName, measuredJob) && logger.isDebugEnabled()) {
+            logger.debug(reportName + " report is already queued, skipping the request.");
+        }
+    }
+
+    /**
+     * Send csv files over email to {@link #emailReportsRecipients}.
+     * Reports are streamed to the files in {@link #reportSpool}, files are removed right after the email is sent.
      *
-     * @param reports data to present as csv files and send over email
+     * @param reports reports to present as csv files and send over email
      * @throws MessagingException if {@link #mailSender} is misconfigured or not able to access SMTP server
      * @throws IOException        if any csv file related error occurs (no space left, unable to create/remove file, etc)
+     * @throws Exception          if any error occurs during reports data retrieval
      */
-    private void sendReportsEmail(List<ReportWrapper> reports) throws MessagingException, IOException {
-        List<File> files = new ArrayList<>();
+    private void sendReportsEmail(List<ReportWrapper> reports) throws Exception {
+        List<Path> files = new ArrayList<>(reports.size());
         try {
             MimeMessageHelper helper = prepareMimeMessageHelper("Logs");
 
             for (ReportWrapper reportWrapper : reports) {
-                String reportFileName = reportWrapper.getReportName() + ".csv";
-                File file = new File(reportFileName);
+                Path file = reportSpool.createReportFile(reportWrapper.getReportName());
                 files.add(file);
-                BufferedWriter writer = new BufferedWriter(new FileWriter(reportFileName));
-
-                List<Map<String, String>> reportsList = reportWrapper.getReport();
-
-                Optional<Map<String, String>> map = reportsList.stream().max(Comparator.comparing(Map::size));
-                String keys = "";
-                if (map.isPresent()) {
-                    keys = String.join(",", map.get().keySet());
-                    writer.append(keys);
-                }
-
-                for (Map<String, String> stringStringMap : reportsList) {
-                    writer.newLine();
-
-                    Arrays.stream(keys.split(",")).forEach(s -> {
-                        if (!stringStringMap.containsKey(s)) {
-                            stringStringMap.put(s, "-");
-                        }
-                    });
-                    writer.append(String.join(",", stringStringMap.values()));
+                try (CsvReportWriter writer = new CsvReportWriter(file, reportWrapper.getColumns())) {
+                    reportWrapper.getContent().write(writer::writeRow);
                 }
-                writer.close();
-                helper.addAttachment(file.getName(), file);
+                helper.addAttachment(reportWrapper.getReportName() + ".csv", file.toFile());
             }
 
             mailSender.send(helper.getMimeMessage());
         } finally {
-            files.forEach(File::deleteOnExit);
+            for (Path file : files) {
+                try {
+                    reportSpool.delete(file);
+                } catch (IOException e) {
+                    logger.warn("Unable to remove report file " + file, e);
+                }
+            }
         }
     }
 
@@ -853,34 +2303,6 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
         return normalizedUptime.toString().trim();
     }
 
-    /**
-     * Send csv files over email to {@link #emailReportsRecipients}
-     *
-     * @param name   name of the reports file to use
-     * @param report data to present as csv files and send over email
-     * @throws MessagingException if {@link #mailSender} is misconfigured or not able to access SMTP server
-     * @throws IOException        if any csv file related error occurs (no space left, unable to create/remove file, etc)
-     */
-    private void sendReportsEmail(String name, Map<String, String> report) throws MessagingException, IOException {
-        MimeMessageHelper helper = prepareMimeMessageHelper("Logs");
-        File file = null;
-        try {
-            file = new File(name + ".csv");
-            BufferedWriter writer = new BufferedWriter(new FileWriter(name + ".csv"));
-
-            String keys = String.join(",", report.keySet());
-            String values = String.join(",", report.values());
-            writer.write(keys + "\n" + values);
-            writer.close();
-            helper.addAttachment(file.getName(), file);
-            mailSender.send(helper.getMimeMessage());
-        } finally {
-            if (file != null) {
-                file.deleteOnExit();
-            }
-        }
-    }
-
     /**
      * Prepare generic {@link MimeMessageHelper} for future use. Fill in FROM/TO, {@code subject}, message type and
      * bodytext.
@@ -915,20 +2337,91 @@ public class PexipManagementNode extends RestCommunicator implements Monitorable
 
     @Override
     public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-        return retrieveMultipleStatistics().stream().filter(s ->
-                list.contains(s.getDeviceId())).collect(Collectors.toList());
+        startStatisticsCollector();
+        updateValidRetrieveStatisticsTimestamp();
+        // Requested devices are resolved by id against the latest snapshot, so the cost depends on the number of
+        // requested devices only, not on the total number of conferencing nodes
+        Map<String, AggregatedDevice> snapshot = aggregatedDevicesSnapshot;
+        List<AggregatedDevice> aggregatedDevices = new ArrayList<>(list.size());
+        for (String deviceId : new LinkedHashSet<>(list)) {
+            AggregatedDevice aggregatedDevice = snapshot.get(deviceId);
+            if (aggregatedDevice != null) {
+                aggregatedDevices.add(aggregatedDevice);
+            }
+        }
+        return aggregatedDevices;
+    }
+
+    /**
+     * Update the value of {@link #validRetrieveStatisticsTimestamp} - the timestamp until which the statistics
+     * collection is considered to be in use by Symphony, and resume collector if it has been paused
+     */
+    private synchronized void updateValidRetrieveStatisticsTimestamp() {
+        validRetrieveStatisticsTimestamp = System.currentTimeMillis() + RETRIEVE_STATISTICS_TIMEOUT;
+        updateCollectorPausedState();
+    }
+
+    /**
+     * Pause statistics collection if {@link #retrieveMultipleStatistics()} was not called for
+     * {@link #RETRIEVE_STATISTICS_TIMEOUT}, so the Management Node is not polled when nobody consumes the data
+     */
+    private synchronized void updateCollectorPausedState() {
+        collectorPaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
     }
 
     @Override
     protected RestTemplate obtainRestTemplate() throws Exception {
         RestTemplate restTemplate = super.obtainRestTemplate();
 
-        List<HttpMessageConverter<?>> messageConverters = new ArrayList<>();
-        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
-        converter.setSupportedMediaTypes(Collections.singletonList(MediaType.APPLICATION_JSON));
-        messageConverters.add(converter);
-        restTemplate.setMessageConverters(messageConverters);
-
+        // RestTemplate is shared between concurrent requests, so message converters are only replaced once per instance
+        synchronized (this) {
+            if (restTemplate != configuredRestTemplate) {
+                ClientHttpRequestFactory requestFactory = restTemplate.getRequestFactory();
+                if (requestFactory instanceof HttpComponentsClientHttpRequestFactory && getAuthenticationScheme() == AuthenticationScheme.Basic) {
+                    restTemplate.setRequestFactory(createEndpointRequestFactory(((HttpComponentsClientHttpRequestFactory) requestFactory).getHttpClient()));
+                }
+                // Every doGet/doPost goes through the RestTemplate, so it is timed by the interceptor, by endpoint
+                List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(restTemplate.getInterceptors());
+                interceptors.add(new MetricsInterceptor(adapterMetrics));
+                restTemplate.setInterceptors(interceptors);
+                List<HttpMessageConverter<?>> messageConverters = new ArrayList<>();
+                // Paginated responses are received as raw bytes, to be decoded with ObjectsPageDecoder
+                messageConverters.add(new ByteArrayHttpMessageConverter());
+                MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+                converter.setSupportedMediaTypes(Collections.singletonList(MediaType.APPLICATION_JSON));
+                messageConverters.add(converter);
+                restTemplate.setMessageConverters(messageConverters);
+                configuredRestTemplate = restTemplate;
+            }
+        }
         return restTemplate;
     }
+
+    /**
+     * Create request factory with the endpoint specific timeouts, based on the pooled HttpClient of the communicator
+     *
+     * @param httpClient pooled HttpClient, created by the communicator
+     * @return {@link EndpointRequestFactory} instance
+     */
+    private EndpointRequestFactory createEndpointRequestFactory(HttpClient httpClient) {
+        HttpHost target = StringUtils.isNullOrEmpty(getLogin()) ? null : new HttpHost(getHost(), getPort(), getProtocol());
+        return new EndpointRequestFactory(httpClient, target, createRequestConfig(statusRequestTimeout),
+                createRequestConfig(historyRequestTimeout), createRequestConfig(commandRequestTimeout));
+    }
+
+    /**
+     * Create request config with the given read timeout, connect and connection pool timeouts are
+     * defined by the communicator timeout
+     *
+     * @param readTimeout read timeout (ms)
+     * @return {@link RequestConfig} instance
+     */
+    private RequestConfig createRequestConfig(int readTimeout) {
+        return RequestConfig.custom()
+                .setConnectTimeout(getTimeout())
+                .setConnectionRequestTimeout(getTimeout())
+                .setSocketTimeout(readTimeout)
+                .setCookieSpec(CookieSpecs.DEFAULT)
+                .build();
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background queue of email reports. Reports are generated and sent one at a time, on a dedicated thread,
+ * so control operations are not blocked by Management Node history requests or SMTP delivery.
+ * Requests of a report that is already queued or running are coalesced, failed reports are retried
+ * with an exponential backoff.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+final class ReportDispatcher {
+    /**
+     * Report generation and delivery routine
+     */
+    @FunctionalInterface
+    interface ReportJob {
+        /**
+         * Generate and send the report
+         *
+         * @throws Exception if any error occurs
+         */
+        void run() throws Exception;
+    }
+
+    private static final Log LOG = LogFactory.getLog(ReportDispatcher.class);
+
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final long retryDelay;
+    /*names of the reports that are queued or running*/
+    private final Set<String> activeReports = ConcurrentHashMap.newKeySet();
+
+    private volatile String runningReport;
+    private volatile String lastSentReport;
+    private volatile String lastError;
+
+    /**
+     * Create report dispatcher
+     *
+     * @param queueCapacity max number of queued reports
+     * @param maxAttempts   max number of attempts to send a report
+     * @param retryDelay    delay (ms) before the first retry, doubled for every next retry
+     */
+    ReportDispatcher(int queueCapacity, int maxAttempts, long retryDelay) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pexip-reports-dispatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queue the report
+     *
+     * @param reportName name of the report, requests with the same name are coalesced
+     * @param job        report generation and delivery routine
+     * @return true if the report is queued, false if the same report is already queued or running
+     * @throws IllegalStateException if the queue is full
+     */
+    boolean submit(String reportName, ReportJob job) {
+        if (!activeReports.add(reportName)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> run(reportName, job));
+        } catch (RejectedExecutionException e) {
+            activeReports.remove(reportName);
+            throw new IllegalStateException("Reports queue is full, unable to queue " + reportName + " report. Please try again later.", e);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieve number of reports waiting in the queue
+     *
+     * @return number of queued reports
+     */
+    int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Retrieves {@code {@link #runningReport}}
+     *
+     * @return value of {@link #runningReport}
+     */
+    String getRunningReport() {
+        return runningReport;
+    }
+
+    /**
+     * Retrieves {@code {@link #lastSentReport}}
+     *
+     * @return value of {@link #lastSentReport}
+     */
+    String getLastSentReport() {
+        return lastSentReport;
+    }
+
+    /**
+     * Retrieves {@code {@link #lastError}}
+     *
+     * @return value of {@link #lastError}
+     */
+    String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Stop the dispatcher, queued reports are dropped, running report is interrupted
+     */
+    void shutdown() {
+        executor.shutdownNow();
+        activeReports.clear();
+    }
+
+    /**
+     * Run the report, retrying it if it fails
+     *
+     * @param reportName name of the report
+     * @param job        report generation and delivery routine
+     */
+    private void run(String reportName, ReportJob job) {
+        runningReport = reportName;
+        try {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    job.run();
+                    lastSentReport = reportName + " " + LocalDateTime.now();
+                    return;
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    lastError = reportName + " " + LocalDateTime.now() + ": " + e.getMessage();
+                    if (attempt == maxAttempts) {
+                        LOG.error(String.format("Unable to send %s report, giving up after %s attempt(s)", reportName, attempt), e);
+                        return;
+                    }
+                    long delay = retryDelay << (attempt - 1);
+                    LOG.warn(String.format("Unable to send %s report, retrying in %sms", reportName, delay), e);
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            runningReport = null;
+            activeReports.remove(reportName);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.mapping;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.converter.JsonPropertyConverter;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * model-mapping.yml models, compiled once into direct json field extractors.
+ * Expressions of {@code get("field")} and {@code get("field").asText()} form (which is the case for all the
+ * models of this adapter) are compiled into direct field lookups, any other expression is evaluated with
+ * {@link JsonPropertyConverter}, same way {@link com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor} does.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class CompiledMapping {
+    private static final Pattern FIELD_EXPRESSION = Pattern.compile("^get\\(\"([^\"]+)\"\\)$");
+    private static final Pattern FIELD_AS_TEXT_EXPRESSION = Pattern.compile("^get\\(\"([^\"]+)\"\\)\\.asText\\(\\)$");
+    /*same pattern AdvancedControlsFactory uses to tell expressions from constant values*/
+    private static final String EXPRESSION = ".+?[a-zA-Z]+?\\(.+?\\).*?";
+    private static final String NULL = "null";
+
+    private final Map<String, CompiledModel> models;
+
+    private CompiledMapping(Map<String, CompiledModel> models) {
+        this.models = models;
+    }
+
+    /**
+     * Compile models, loaded by {@link com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser}
+     *
+     * @param mapping models by model name
+     * @return {@link CompiledMapping} instance
+     */
+    public static CompiledMapping compile(Map<String, PropertiesMapping> mapping) {
+        Map<String, CompiledModel> models = new HashMap<>();
+        JsonPropertyConverter[] converter = new JsonPropertyConverter[1];
+        mapping.forEach((modelName, propertiesMapping) -> {
+            // Same order AggregatedDeviceProcessor applies properties in, so later definitions take precedence
+            Map<String, String> expressions = new LinkedHashMap<>();
+            putAll(expressions, propertiesMapping.getProperties());
+            putAll(expressions, propertiesMapping.getStatistics());
+            putAll(expressions, propertiesMapping.getDynamicStatistics());
+
+            List<String> propertyNames = new ArrayList<>(expressions.size());
+            List<PropertyExtractor> extractors = new ArrayList<>(expressions.size());
+            Set<String> referencedFields = new HashSet<>();
+            boolean anyField = false;
+            for (Map.Entry<String, String> entry : expressions.entrySet()) {
+                String expression = entry.getValue() == null ? "" : entry.getValue().trim();
+                Matcher field = FIELD_EXPRESSION.matcher(expression);
+                Matcher fieldAsText = FIELD_AS_TEXT_EXPRESSION.matcher(expression);
+                PropertyExtractor extractor;
+                if (field.matches()) {
+                    String fieldName = field.group(1);
+                    referencedFields.add(fieldName);
+                    extractor = node -> fieldValue(node.get(fieldName));
+                } else if (fieldAsText.matches()) {
+                    String fieldName = fieldAsText.group(1);
+                    referencedFields.add(fieldName);
+                    extractor = node -> fieldText(node.get(fieldName));
+                } else if (expression.matches(EXPRESSION)) {
+                    anyField = true;
+                    if (converter[0] == null) {
+                        converter[0] = new JsonPropertyConverter();
+                    }
+                    JsonPropertyConverter jsonPropertyConverter = converter[0];
+                    extractor = node -> jsonPropertyConverter.retrieveJsonValue(node, expression);
+                } else {
+                    String value = entry.getValue();
+                    extractor = node -> value;
+                }
+                propertyNames.add(entry.getKey());
+                extractors.add(extractor);
+            }
+            models.put(modelName, new CompiledModel(modelName, propertyNames.toArray(new String[0]),
+                    extractors.toArray(new PropertyExtractor[0]), anyField ? null : referencedFields));
+        });
+        return new CompiledMapping(models);
+    }
+
+    /**
+     * Retrieve compiled model by name
+     *
+     * @param modelName name of the model in model-mapping.yml
+     * @return {@link CompiledModel} instance
+     * @throws IllegalArgumentException if there's no model with the given name
+     */
+    public CompiledModel getModel(String modelName) {
+        CompiledModel model = models.get(modelName);
+        if (model == null) {
+            throw new IllegalArgumentException("Unable to find mapping model " + modelName);
+        }
+        return model;
+    }
+
+    /**
+     * Null-safe putAll
+     *
+     * @param target map to put values to
+     * @param source map to take values from, may be null
+     */
+    private static void putAll(Map<String, String> target, Map<String, String> source) {
+        if (source != null) {
+            target.putAll(source);
+        }
+    }
+
+    /**
+     * Convert json value the way {@code get("field")} expression is converted by {@link JsonPropertyConverter}:
+     * text values are used as is, other values are represented as json, null values are skipped
+     *
+     * @param value json value
+     * @return string value or empty string
+     */
+    private static String fieldValue(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return "";
+        }
+        String text = value.isTextual() ? value.textValue() : value.toString();
+        return NULL.equals(text) ? "" : text;
+    }
+
+    /**
+     * Convert json value the way {@code get("field").asText()} expression is converted by {@link JsonPropertyConverter}
+     *
+     * @param value json value
+     * @return string value or empty string
+     */
+    private static String fieldText(JsonNode value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.asText();
+        return NULL.equals(text) ? "" : text;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.mapping;
+
+import com.avispl.symphony.dal.util.StringUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A single model of model-mapping.yml, compiled into a fixed list of property names and field extractors.
+ * Produces the same key:value pairs as {@link com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor#applyProperties(Map, JsonNode, String)}
+ * does (properties with empty values are skipped), without interpreting the mapping expressions for every row and
+ * without instantiating intermediate {@link com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice} objects.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class CompiledModel {
+    private final String name;
+    private final String[] propertyNames;
+    private final PropertyExtractor[] extractors;
+    private final int mapCapacity;
+    private final Set<String> referencedFields;
+
+    CompiledModel(String name, String[] propertyNames, PropertyExtractor[] extractors, Set<String> referencedFields) {
+        this.name = name;
+        this.propertyNames = propertyNames;
+        this.extractors = extractors;
+        this.mapCapacity = (int) (propertyNames.length / 0.75f) + 1;
+        this.referencedFields = referencedFields == null ? null : Collections.unmodifiableSet(referencedFields);
+    }
+
+    /**
+     * Map json object to the properties, defined by the model
+     *
+     * @param node json object to extract properties from
+     * @return {@link Map} of property name to its non-empty value
+     */
+    public Map<String, String> map(JsonNode node) {
+        Map<String, String> properties = new HashMap<>(mapCapacity);
+        map(node, properties);
+        return properties;
+    }
+
+    /**
+     * Map json object to the properties, defined by the model, adding them to {@code properties}
+     *
+     * @param node       json object to extract properties from
+     * @param properties map to add non-empty properties to
+     */
+    public void map(JsonNode node, Map<String, String> properties) {
+        for (int i = 0; i < extractors.length; i++) {
+            String value = extractors[i].extract(node);
+            if (!StringUtils.isNullOrEmpty(value)) {
+                properties.put(propertyNames[i], value);
+            }
+        }
+    }
+
+    /**
+     * Retrieves {@code {@link #name}}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieve property names of the model, in the order they are defined in model-mapping.yml
+     *
+     * @return {@link List} of property names
+     */
+    public List<String> getPropertyNames() {
+        return Collections.unmodifiableList(Arrays.asList(propertyNames));
+    }
+
+    /**
+     * Retrieve names of the json fields the model reads
+     *
+     * @return {@link Set} of json field names, or null if the model contains expressions that may read any field
+     */
+    public Set<String> getReferencedFields() {
+        return referencedFields;
+    }
+}
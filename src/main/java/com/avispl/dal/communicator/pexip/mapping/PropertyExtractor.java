@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.mapping;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Compiled model-mapping.yml expression, extracting a single property value from a json object
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+@FunctionalInterface
+interface PropertyExtractor {
+    /**
+     * Extract property value
+     *
+     * @param node json object to extract value from
+     * @return property value, or empty string if there's no value
+     */
+    String extract(JsonNode node);
+}
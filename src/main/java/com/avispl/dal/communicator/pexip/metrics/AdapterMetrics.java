@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link OperationMetrics}: Management Node API endpoints, as recorded by {@link MetricsInterceptor},
+ * and adapter processing phases. Metrics are published as a Monitoring group of the adapter statistics.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class AdapterMetrics {
+    private static final String GROUP = "Monitoring#";
+    private static final long MICROS_PER_MILLI = 1000;
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieve metrics of the operation, created on first use
+     *
+     * @param operation operation name, e.g. StatusParticipant or PollCycle
+     * @return {@link OperationMetrics} of the operation
+     */
+    public OperationMetrics get(String operation) {
+        return operations.computeIfAbsent(operation, name -> new OperationMetrics());
+    }
+
+    /**
+     * Record operation, that has started at {@code startNanos}
+     *
+     * @param operation  operation name
+     * @param startNanos {@link System#nanoTime()} value at the operation start
+     * @param error      whether the operation has failed
+     * @return {@link OperationMetrics} of the operation
+     */
+    public OperationMetrics record(String operation, long startNanos, boolean error) {
+        OperationMetrics metrics = get(operation);
+        metrics.record(System.nanoTime() - startNanos, error);
+        return metrics;
+    }
+
+    /**
+     * Add metrics of all the operations to the statistics, as Monitoring#{operation}{metric} properties.
+     * Latencies are in milliseconds, bytes and rows are only published for the operations that have them.
+     *
+     * @param statistics map to add properties to
+     */
+    public void publish(Map<String, String> statistics) {
+        new TreeMap<>(operations).forEach((operation, metrics) -> {
+            String prefix = GROUP + operation;
+            statistics.put(prefix + "Count", String.valueOf(metrics.getCount()));
+            statistics.put(prefix + "Errors", String.valueOf(metrics.getErrors()));
+            statistics.put(prefix + "LastMs", String.valueOf(metrics.getLastMicros() / MICROS_PER_MILLI));
+            statistics.put(prefix + "MaxMs", String.valueOf(metrics.getMaxMicros() / MICROS_PER_MILLI));
+            statistics.put(prefix + "P50Ms", String.valueOf(metrics.getPercentileMicros(50) / MICROS_PER_MILLI));
+            statistics.put(prefix + "P95Ms", String.valueOf(metrics.getPercentileMicros(95) / MICROS_PER_MILLI));
+            statistics.put(prefix + "P99Ms", String.valueOf(metrics.getPercentileMicros(99) / MICROS_PER_MILLI));
+            if (metrics.getBytes() > 0) {
+                statistics.put(prefix + "BytesReceived", String.valueOf(metrics.getBytes()));
+            }
+            if (metrics.getRows() > 0) {
+                statistics.put(prefix + "Rows", String.valueOf(metrics.getRows()));
+            }
+        });
+    }
+
+    /**
+     * Remove all the recorded metrics
+     */
+    public void clear() {
+        operations.clear();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.metrics;
+
+/**
+ * Java Flight Recorder events of the adapter: Management Node API requests, model mapping batches, poll cycles and
+ * email reports. Events are only committed when a recording is running and the event duration exceeds its threshold,
+ * which can be changed in the recording settings (com.avispl.pexip.* events).
+ * JFR event types are compiled from src/jfr/java, only when the build JDK provides jdk.jfr (see the jfr profile), and are
+ * loaded by name if the runtime provides JFR as well, no-op recordings are returned otherwise.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class FlightRecorderEvents {
+    private static final String EVENTS_CLASS = "com.avispl.dal.communicator.pexip.metrics.JfrEvents";
+    private static final Events EVENTS = loadEvents();
+
+    /**
+     * Recording of an operation, started by one of the begin methods
+     */
+    @FunctionalInterface
+    public interface Recording {
+        Recording NONE = (count, failed) -> {
+        };
+
+        /**
+         * End the operation and commit its event, if it passes the threshold
+         *
+         * @param count  number of rows or nodes processed by the operation
+         * @param failed whether the operation has failed
+         */
+        void end(long count, boolean failed);
+    }
+
+    /**
+     * Recording of an API request, started by {@link #beginRequest(String, String)}
+     */
+    @FunctionalInterface
+    public interface RequestRecording {
+        RequestRecording NONE = (status, bytes) -> {
+        };
+
+        /**
+         * End the request and commit its event, if it passes the threshold
+         *
+         * @param status response status code, or 0 if no response is received
+         * @param bytes  number of response body bytes received
+         */
+        void end(int status, long bytes);
+    }
+
+    /**
+     * Factory of the event recordings, implemented by JfrEvents
+     */
+    interface Events {
+        Events NONE = new Events() {
+            @Override
+            public RequestRecording beginRequest(String method, String endpoint) {
+                return RequestRecording.NONE;
+            }
+
+            @Override
+            public Recording beginModelMapping(String model) {
+                return Recording.NONE;
+            }
+
+            @Override
+            public Recording beginPollCycle() {
+                return Recording.NONE;
+            }
+
+            @Override
+            public Recording beginReport(String report) {
+                return Recording.NONE;
+            }
+        };
+
+        /**
+         * See {@link FlightRecorderEvents#beginRequest(String, String)}
+         */
+        RequestRecording beginRequest(String method, String endpoint);
+
+        /**
+         * See {@link FlightRecorderEvents#beginModelMapping(String)}
+         */
+        Recording beginModelMapping(String model);
+
+        /**
+         * See {@link FlightRecorderEvents#beginPollCycle()}
+         */
+        Recording beginPollCycle();
+
+        /**
+         * See {@link FlightRecorderEvents#beginReport(String)}
+         */
+        Recording beginReport(String report);
+    }
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Begin Management Node API request event
+     *
+     * @param method   request method
+     * @param endpoint endpoint name, see {@link MetricsInterceptor#endpointName(java.net.URI)}
+     * @return {@link RequestRecording} to end when the response is processed
+     */
+    public static RequestRecording beginRequest(String method, String endpoint) {
+        return EVENTS.beginRequest(method, endpoint);
+    }
+
+    /**
+     * Begin model mapping event, of a batch of objects mapped with the same model
+     *
+     * @param model model name
+     * @return {@link Recording} to end with the number of mapped objects
+     */
+    public static Recording beginModelMapping(String model) {
+        return EVENTS.beginModelMapping(model);
+    }
+
+    /**
+     * Begin conferencing nodes statistics collection cycle event
+     *
+     * @return {@link Recording} to end with the number of collected conferencing nodes
+     */
+    public static Recording beginPollCycle() {
+        return EVENTS.beginPollCycle();
+    }
+
+    /**
+     * Begin email report generation and delivery event
+     *
+     * @param report report name
+     * @return {@link Recording} to end when the report is sent or failed
+     */
+    public static Recording beginReport(String report) {
+        return EVENTS.beginReport(report);
+    }
+
+    /**
+     * Check whether JFR events are emitted: JfrEvents is compiled in and JFR is provided by the runtime (JDK 11+ or 8u262+)
+     *
+     * @return true if JFR events are available
+     */
+    static boolean isAvailable() {
+        return EVENTS != Events.NONE;
+    }
+
+    /**
+     * Load JfrEvents, if both the class and jdk.jfr classes are available
+     *
+     * @return JfrEvents instance, or {@link Events#NONE}
+     */
+    private static Events loadEvents() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return (Events) Class.forName(EVENTS_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return Events.NONE;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.metrics;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records latency and payload size of every Management Node API request to the {@link AdapterMetrics}, by endpoint.
+ * Request is recorded when its response is closed, so the latency includes the response body read time.
+ * Received bytes are counted as the response body is read, after the content decompression.
+ * Every request is also reported as a {@link FlightRecorderEvents} API request event.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class MetricsInterceptor implements ClientHttpRequestInterceptor {
+    private static final String API_PATH = "/api/admin/";
+    private static final int ERROR_STATUS = 400;
+
+    private final AdapterMetrics adapterMetrics;
+
+    /**
+     * Create interceptor
+     *
+     * @param adapterMetrics metrics registry to record requests to
+     */
+    public MetricsInterceptor(AdapterMetrics adapterMetrics) {
+        this.adapterMetrics = adapterMetrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String endpoint = endpointName(request.getURI());
+        FlightRecorderEvents.RequestRecording recording = FlightRecorderEvents.beginRequest(String.valueOf(request.getMethod()), endpoint);
+        long startNanos = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            adapterMetrics.record(endpoint, startNanos, true);
+            recording.end(0, 0);
+            throw e;
+        }
+        return new MeasuredResponse(response, adapterMetrics.get(endpoint), recording, startNanos);
+    }
+
+    /**
+     * Retrieve endpoint name of the request uri: path segments after /api/admin/, excluding the API version and
+     * object ids, in camel case. E.g. /api/admin/status/v1/participant/ is StatusParticipant and
+     * /api/admin/command/v1/participant/disconnect/ is CommandParticipantDisconnect
+     *
+     * @param uri request uri
+     * @return endpoint name, or Other if the uri is not a Management Node API uri
+     */
+    public static String endpointName(URI uri) {
+        String path = uri == null ? null : uri.getPath();
+        int apiIndex = path == null ? -1 : path.indexOf(API_PATH);
+        if (apiIndex < 0) {
+            return "Other";
+        }
+        StringBuilder name = new StringBuilder();
+        for (String segment : path.substring(apiIndex + API_PATH.length()).split("/")) {
+            if (segment.isEmpty() || segment.matches("v\\d+|\\d+")) {
+                continue;
+            }
+            for (String word : segment.split("_")) {
+                if (!word.isEmpty()) {
+                    name.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+                }
+            }
+        }
+        return name.length() == 0 ? "Other" : name.toString();
+    }
+
+    /**
+     * Response that counts the body bytes and records the request once it is closed
+     */
+    private static final class MeasuredResponse implements ClientHttpResponse {
+        private final ClientHttpResponse response;
+        private final OperationMetrics metrics;
+        private final FlightRecorderEvents.RequestRecording recording;
+        private final long startNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private CountingInputStream body;
+
+        private MeasuredResponse(ClientHttpResponse response, OperationMetrics metrics, FlightRecorderEvents.RequestRecording recording,
+                                 long startNanos) {
+            this.response = response;
+            this.metrics = metrics;
+            this.recording = recording;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return response.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(response.getBody(), metrics);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            int status = rawStatusCode();
+            try {
+                response.close();
+            } finally {
+                if (recorded.compareAndSet(false, true)) {
+                    metrics.record(System.nanoTime() - startNanos, status == 0 || status >= ERROR_STATUS);
+                    recording.end(status, body == null ? 0 : body.count);
+                }
+            }
+        }
+
+        private int rawStatusCode() {
+            try {
+                return response.getRawStatusCode();
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Input stream that counts the bytes read and adds them to the {@link OperationMetrics}
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final OperationMetrics metrics;
+        private long count;
+
+        private CountingInputStream(InputStream in, OperationMetrics metrics) {
+            super(in);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                added(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                added(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            long read = super.skip(length);
+            if (read > 0) {
+                added(read);
+            }
+            return read;
+        }
+
+        private void added(long bytes) {
+            count += bytes;
+            metrics.addBytes(bytes);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a single operation: an API endpoint or a processing phase. Keeps counters and a latency histogram
+ * with log-linear buckets (4 buckets per power of two microseconds, so percentiles are accurate within 25%).
+ * Recording is lock-free and allocation-free, so it is safe to call for every request from multiple threads.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class OperationMetrics {
+    /*number of buckets per power of two*/
+    private static final int SUB_BUCKETS = 4;
+    /*values up to 2^40 microseconds (~12 days) are bucketed, larger values are kept in the last bucket*/
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS_COUNT = SUB_BUCKETS + (MAX_EXPONENT - 1) * SUB_BUCKETS;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final AtomicLong lastMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+
+    /**
+     * Record a single operation
+     *
+     * @param durationNanos duration of the operation
+     * @param error         whether the operation has failed
+     */
+    public void record(long durationNanos, boolean error) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        count.increment();
+        if (error) {
+            errors.increment();
+        }
+        lastMicros.set(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+        buckets.incrementAndGet(bucketIndex(micros));
+    }
+
+    /**
+     * Add number of bytes, received by the operation
+     *
+     * @param bytesCount number of bytes
+     */
+    public void addBytes(long bytesCount) {
+        bytes.add(bytesCount);
+    }
+
+    /**
+     * Add number of rows, processed by the operation
+     *
+     * @param rowsCount number of rows
+     */
+    public void addRows(long rowsCount) {
+        rows.add(rowsCount);
+    }
+
+    /**
+     * Retrieves {@code {@link #count}}
+     *
+     * @return number of the recorded operations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Retrieves {@code {@link #errors}}
+     *
+     * @return number of the failed operations
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Retrieves {@code {@link #bytes}}
+     *
+     * @return number of bytes received by the operations
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Retrieves {@code {@link #rows}}
+     *
+     * @return number of rows processed by the operations
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Retrieves {@code {@link #lastMicros}}
+     *
+     * @return duration (microseconds) of the latest operation
+     */
+    public long getLastMicros() {
+        return lastMicros.get();
+    }
+
+    /**
+     * Retrieves {@code {@link #maxMicros}}
+     *
+     * @return max duration (microseconds) of the operations
+     */
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Retrieve latency percentile
+     *
+     * @param percentile value from 0 to 100
+     * @return upper bound (microseconds) of the bucket the percentile falls into, capped by the max recorded value,
+     * or 0 if nothing is recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS_COUNT];
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * Retrieve bucket of the value: values below {@link #SUB_BUCKETS} have a bucket each, every next power of two
+     * range is split into {@link #SUB_BUCKETS} equal buckets
+     *
+     * @param micros value
+     * @return bucket index
+     */
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKETS_COUNT - 1, SUB_BUCKETS + (exponent - 2) * SUB_BUCKETS + subBucket);
+    }
+
+    /**
+     * Retrieve max value of the bucket
+     *
+     * @param index bucket index
+     * @return max value (inclusive) of the bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + 2;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - 2)) - 1;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.reports;
+
+import com.avispl.symphony.dal.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming csv writer with a fixed column schema. Rows are written as soon as they are received, so
+ * the memory footprint does not depend on the number of rows in the report.
+ * Values are quoted according to RFC 4180, missing values are written as {@link #EMPTY_VALUE}.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class CsvReportWriter implements Closeable {
+    private static final String EMPTY_VALUE = "-";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final BufferedWriter writer;
+    private final String[] columns;
+    private long rowsCount;
+
+    /**
+     * Create csv file writer and write the header line
+     *
+     * @param file    file to write csv data to
+     * @param columns report columns, in the order they should be written in
+     * @throws IOException if the file cannot be opened or written to
+     */
+    public CsvReportWriter(Path file, List<String> columns) throws IOException {
+        this.columns = columns.toArray(new String[0]);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        try {
+            for (int i = 0; i < this.columns.length; i++) {
+                writeValue(i, this.columns[i]);
+            }
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Write a report row. Values are written in the column order, properties that are not part of
+     * the schema are skipped.
+     *
+     * @param row property name to value map
+     * @throws IOException if the row cannot be written
+     */
+    public void writeRow(Map<String, String> row) throws IOException {
+        writer.write(LINE_SEPARATOR);
+        for (int i = 0; i < columns.length; i++) {
+            String value = row.get(columns[i]);
+            writeValue(i, StringUtils.isNullOrEmpty(value) ? EMPTY_VALUE : value);
+        }
+        rowsCount++;
+    }
+
+    /**
+     * Retrieves {@code {@link #rowsCount}}
+     *
+     * @return value of {@link #rowsCount}
+     */
+    public long getRowsCount() {
+        return rowsCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Write a single csv value, quoting it if it contains separators, quotes or line breaks
+     *
+     * @param index index of the column
+     * @param value value to write
+     * @throws IOException if the value cannot be written
+     */
+    private void writeValue(int index, String value) throws IOException {
+        if (index > 0) {
+            writer.write(SEPARATOR);
+        }
+        if (!requiresQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    /**
+     * Check whether the value has to be quoted
+     *
+     * @param value csv value
+     * @return true if value contains separators, quotes or line breaks
+     */
+    private boolean requiresQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
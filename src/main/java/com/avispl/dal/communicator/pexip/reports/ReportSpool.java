@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.dal.communicator.pexip.reports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Managed temporary directory for csv reports. Report files are created in a dedicated temp directory,
+ * rather than in the working directory of the process, and are expected to be removed with {@link #delete(Path)}
+ * as soon as they are sent. {@link #close()} removes the directory along with any files left behind.
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * @since 1.1.0
+ */
+public final class ReportSpool implements Closeable {
+    private static final String REPORT_FILE_SUFFIX = ".csv";
+
+    private final String directoryPrefix;
+    private Path directory;
+
+    /**
+     * Create report spool. The directory itself is created on demand.
+     *
+     * @param directoryPrefix prefix of the temp directory name
+     */
+    public ReportSpool(String directoryPrefix) {
+        this.directoryPrefix = directoryPrefix;
+    }
+
+    /**
+     * Create a new empty report file in the spool directory
+     *
+     * @param reportName name of the report, used as a file name prefix
+     * @return path of the created file
+     * @throws IOException if the spool directory or the file cannot be created
+     */
+    public synchronized Path createReportFile(String reportName) throws IOException {
+        if (directory == null || !Files.isDirectory(directory)) {
+            directory = Files.createTempDirectory(directoryPrefix);
+        }
+        return Files.createTempFile(directory, reportName.replaceAll("[^a-zA-Z0-9_-]", "_") + "-", REPORT_FILE_SUFFIX);
+    }
+
+    /**
+     * Delete report file
+     *
+     * @param reportFile file, created with {@link #createReportFile(String)}
+     * @throws IOException if the file exists, but cannot be removed
+     */
+    public void delete(Path reportFile) throws IOException {
+        Files.deleteIfExists(reportFile);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+        directory = null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.avispl.dal.communicator.dto.api.conferences.Conference;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+public class ConferenceDailyStatisticsTest {
+
+    @Test
+    public void testDailyAndTotalValuesAreDerivedFromBuckets() {
+        LocalDate monthStart = LocalDate.of(2021, 6, 1);
+        ConferenceDailyStatistics statistics = new ConferenceDailyStatistics(monthStart, LocalDate.of(2021, 6, 16));
+
+        statistics.add(conference("2021-06-01T10:15:30.123456", Integer.MAX_VALUE, 2));
+        statistics.add(conference("2021-06-15T08:00:00", Integer.MAX_VALUE, 3));
+        statistics.add(conference("2021-06-15T23:59:59", 60, 4));
+        statistics.add(conference(null, 30, 1));
+
+        LocalDate today = LocalDate.of(2021, 6, 15);
+        Assert.assertEquals(2, statistics.getConferences(today));
+        Assert.assertEquals(Integer.MAX_VALUE + 60L, statistics.getDuration(today));
+        Assert.assertEquals(7, statistics.getParticipants(today));
+        Assert.assertEquals(0, statistics.getConferences(LocalDate.of(2021, 7, 1)));
+
+        Assert.assertEquals(4, statistics.getTotalConferences());
+        Assert.assertEquals(2L * Integer.MAX_VALUE + 90L, statistics.getTotalDuration());
+        Assert.assertEquals(10, statistics.getTotalParticipants());
+    }
+
+    private Conference conference(String endTime, int duration, int participantCount) {
+        Conference conference = new Conference();
+        conference.setEndTime(endTime);
+        conference.setDuration(duration);
+        conference.setParticipantCount(participantCount);
+        return conference;
+    }
+}
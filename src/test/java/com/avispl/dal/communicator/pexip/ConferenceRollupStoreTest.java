@@ -0,0 +1,71 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.avispl.dal.communicator.dto.api.conferences.Conference;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+public class ConferenceRollupStoreTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testRollupsAreRestoredAfterReload() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("rollups");
+        LocalDate periodStart = LocalDate.of(2021, 5, 1);
+
+        ConferenceDailyStatistics fetched = new ConferenceDailyStatistics(periodStart, LocalDate.of(2021, 5, 3));
+        Conference conference = new Conference();
+        conference.setEndTime("2021-05-02T12:00:00");
+        conference.setDuration(120);
+        conference.setParticipantCount(3);
+        fetched.add(conference);
+        new ConferenceRollupStore(directory).store(fetched);
+
+        ConferenceRollupStore store = new ConferenceRollupStore(directory);
+        ConferenceDailyStatistics restored = new ConferenceDailyStatistics(periodStart, LocalDate.of(2021, 6, 1));
+        // Days without conferences are rolled up too, so they are not requested again
+        Assert.assertTrue(store.restore(periodStart, restored));
+        Assert.assertTrue(store.restore(LocalDate.of(2021, 5, 2), restored));
+        Assert.assertFalse(store.restore(LocalDate.of(2021, 5, 3), restored));
+
+        Assert.assertEquals(1, restored.getTotalConferences());
+        Assert.assertEquals(120, restored.getDuration(LocalDate.of(2021, 5, 2)));
+        Assert.assertEquals(3, restored.getTotalParticipants());
+    }
+
+    @Test
+    public void testDayIsNotRolledUpUntilItIsOverInUtc() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("rollups");
+        // June 2nd, 01:00 in Kyiv (UTC+3), while June 1st is not over in UTC yet
+        Clock clock = Clock.fixed(Instant.parse("2021-06-01T22:00:00Z"), ZoneId.of("Europe/Kiev"));
+        ConferenceRollupStore store = new ConferenceRollupStore(directory, clock);
+
+        ConferenceDailyStatistics fetched = new ConferenceDailyStatistics(LocalDate.of(2021, 5, 31), LocalDate.of(2021, 6, 2));
+        Conference conference = new Conference();
+        conference.setEndTime("2021-06-01T21:00:00");
+        conference.setDuration(60);
+        conference.setParticipantCount(2);
+        fetched.add(conference);
+        store.store(fetched);
+
+        ConferenceDailyStatistics restored = new ConferenceDailyStatistics(LocalDate.of(2021, 5, 31), LocalDate.of(2021, 6, 2));
+        Assert.assertTrue(store.restore(LocalDate.of(2021, 5, 31), restored));
+        Assert.assertFalse(store.restore(LocalDate.of(2021, 6, 1), restored));
+
+        // Once June 1st is over in UTC, the day is rolled up with the complete history
+        ConferenceRollupStore nextDayStore = new ConferenceRollupStore(directory, Clock.offset(clock, Duration.ofHours(3)));
+        Assert.assertFalse(nextDayStore.restore(LocalDate.of(2021, 6, 1), restored));
+        nextDayStore.store(fetched);
+        Assert.assertTrue(nextDayStore.restore(LocalDate.of(2021, 6, 1), restored));
+        Assert.assertEquals(60, restored.getDuration(LocalDate.of(2021, 6, 1)));
+    }
+}
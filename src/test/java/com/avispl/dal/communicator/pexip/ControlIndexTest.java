@@ -0,0 +1,34 @@
+package com.avispl.dal.communicator.pexip;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ControlIndexTest {
+    @Test
+    public void testRepeatedDisplayNameIsAmbiguous() {
+        Map<String, List<String>> participantIds = new HashMap<>();
+        participantIds.put("1", Collections.singletonList("1"));
+        participantIds.put("2", Collections.singletonList("2"));
+        participantIds.put("Reception", Arrays.asList("1", "2"));
+        participantIds.put("Meeting Room 1:Reception", Collections.singletonList("1"));
+        participantIds.put("Meeting Room 2:Reception", Collections.singletonList("2"));
+        ControlIndex controlIndex = new ControlIndex(Collections.emptyMap(), participantIds, Collections.emptyMap(), Collections.emptyMap());
+
+        Assert.assertEquals("1", controlIndex.getParticipantId("Meeting Room 1:Reception"));
+        Assert.assertEquals("2", controlIndex.getParticipantId("Meeting Room 2:Reception"));
+        Assert.assertEquals("2", controlIndex.getParticipantId("2"));
+        Assert.assertNull(controlIndex.getParticipantId("Lobby"));
+        try {
+            controlIndex.getParticipantId("Reception");
+            Assert.fail("Display name of two active participants is expected to be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("ambiguous"));
+        }
+    }
+}
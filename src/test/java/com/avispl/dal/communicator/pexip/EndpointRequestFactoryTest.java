@@ -0,0 +1,48 @@
+package com.avispl.dal.communicator.pexip;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.net.URI;
+
+public class EndpointRequestFactoryTest {
+    private final CloseableHttpClient httpClient = HttpClients.createDefault();
+    private final RequestConfig statusRequestConfig = RequestConfig.custom().setSocketTimeout(1000).build();
+    private final RequestConfig historyRequestConfig = RequestConfig.custom().setSocketTimeout(2000).build();
+    private final RequestConfig commandRequestConfig = RequestConfig.custom().setSocketTimeout(3000).build();
+    private final EndpointRequestFactory requestFactory = new EndpointRequestFactory(httpClient, new HttpHost("pexip.local", 443, "https"),
+            statusRequestConfig, historyRequestConfig, commandRequestConfig);
+
+    @After
+    public void tearDown() throws IOException {
+        httpClient.close();
+    }
+
+    @Test
+    public void testRequestConfigByEndpointClass() {
+        Assert.assertSame(statusRequestConfig, requestFactory.getRequestConfig(URI.create("https://pexip.local/api/admin/status/v1/participant/?limit=5000")));
+        Assert.assertSame(statusRequestConfig, requestFactory.getRequestConfig(URI.create("https://pexip.local/api/admin/configuration/v1/worker_vm/")));
+        Assert.assertSame(historyRequestConfig, requestFactory.getRequestConfig(URI.create("https://pexip.local/api/admin/history/v1/conference/?limit=5000")));
+        Assert.assertSame(commandRequestConfig, requestFactory.getRequestConfig(URI.create("https://pexip.local/api/admin/command/v1/conference/disconnect/")));
+    }
+
+    @Test
+    public void testContextIsCreatedPerRequest() {
+        URI uri = URI.create("https://pexip.local/api/admin/history/v1/participant/");
+        HttpClientContext first = (HttpClientContext) requestFactory.createHttpContext(HttpMethod.GET, uri);
+        HttpClientContext second = (HttpClientContext) requestFactory.createHttpContext(HttpMethod.GET, uri);
+
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(historyRequestConfig, first.getRequestConfig());
+        Assert.assertNotNull(first.getAuthCache().get(new HttpHost("pexip.local", 443, "https")));
+        Assert.assertSame(first.getAuthCache(), second.getAuthCache());
+    }
+}
@@ -0,0 +1,91 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HistoryCacheTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testCachedDayIsReadBack() throws Exception {
+        HistoryCache cache = new HistoryCache(temporaryFolder.getRoot().toPath(), 1024 * 1024);
+        LocalDate day = LocalDate.of(2021, 6, 1);
+        Assert.assertNull(cache.get("conference", day));
+
+        try (HistoryCache.Writer writer = cache.openWriter("conference", day)) {
+            writer.write(JsonNodeFactory.instance.objectNode().put("id", "1").put("duration", 60));
+            writer.write(JsonNodeFactory.instance.objectNode().put("id", "2").putNull("tag"));
+            writer.commit();
+        }
+
+        Path cachedDay = new HistoryCache(temporaryFolder.getRoot().toPath(), 1024 * 1024).get("conference", day);
+        Assert.assertNotNull(cachedDay);
+        List<JsonNode> nodes = new ArrayList<>();
+        cache.read(cachedDay, nodes::add);
+        Assert.assertEquals(2, nodes.size());
+        Assert.assertEquals(60, nodes.get(0).get("duration").asInt());
+        Assert.assertTrue(nodes.get(1).get("tag").isNull());
+        Assert.assertNull(cache.get("participant", day));
+    }
+
+    @Test
+    public void testDayIsNotCachedUntilItIsOverInUtc() throws Exception {
+        LocalDate day = LocalDate.of(2021, 6, 1);
+        // June 2nd, 02:30 in Kyiv (UTC+3), while June 1st is still open in UTC
+        HistoryCache cache = new HistoryCache(temporaryFolder.getRoot().toPath(), 1024 * 1024,
+                Clock.fixed(Instant.parse("2021-06-01T23:30:00Z"), ZoneId.of("Europe/Kiev")));
+        Assert.assertTrue(cache.isCacheable(day.minusDays(1)));
+        Assert.assertFalse(cache.isCacheable(day));
+        try {
+            cache.openWriter("conference", day);
+            Assert.fail("Day that is not over in UTC is not expected to be cached");
+        } catch (IllegalStateException e) {
+            Assert.assertNull(cache.get("conference", day));
+        }
+
+        // The day is cached once it has been over in UTC for the safety margin
+        Assert.assertFalse(new HistoryCache(temporaryFolder.getRoot().toPath(), 1024 * 1024,
+                Clock.fixed(Instant.parse("2021-06-02T00:30:00Z"), ZoneId.of("UTC"))).isCacheable(day));
+        Assert.assertTrue(new HistoryCache(temporaryFolder.getRoot().toPath(), 1024 * 1024,
+                Clock.fixed(Instant.parse("2021-06-02T01:00:00Z"), ZoneId.of("UTC"))).isCacheable(day));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDaysAreEvicted() throws Exception {
+        HistoryCache cache = new HistoryCache(temporaryFolder.getRoot().toPath(), 1);
+        LocalDate firstDay = LocalDate.of(2021, 6, 1);
+        LocalDate secondDay = firstDay.plusDays(1);
+        for (LocalDate day : new LocalDate[]{firstDay, secondDay}) {
+            try (HistoryCache.Writer writer = cache.openWriter("participant", day)) {
+                writer.write(JsonNodeFactory.instance.objectNode().put("id", day.toString()));
+                writer.commit();
+            }
+        }
+        Assert.assertNull(cache.get("participant", firstDay));
+        Assert.assertNotNull(cache.get("participant", secondDay));
+    }
+
+    @Test
+    public void testUncommittedDayIsDiscarded() throws Exception {
+        HistoryCache cache = new HistoryCache(temporaryFolder.getRoot().toPath(), 1024 * 1024);
+        LocalDate day = LocalDate.of(2021, 6, 1);
+        try (HistoryCache.Writer writer = cache.openWriter("conference", day)) {
+            writer.write(JsonNodeFactory.instance.objectNode().put("id", "1"));
+        }
+        Assert.assertNull(new HistoryCache(temporaryFolder.getRoot().toPath(), 1024 * 1024).get("conference", day));
+        Assert.assertEquals(0, temporaryFolder.getRoot().toPath().resolve("conference").toFile().list().length);
+    }
+}
@@ -0,0 +1,232 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.avispl.dal.communicator.pexip.simulator.ManagementNodeSimulator;
+import com.avispl.dal.communicator.pexip.simulator.SimulatorScale;
+import com.avispl.dal.communicator.pexip.simulator.SmtpServerStub;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end tests of the adapter against the local {@link ManagementNodeSimulator}, no Pexip host is needed.
+ * Scale tiers of the polling load test are set with -Dpexip.loadTest.tiers=SMALL,MEDIUM,LARGE (SMALL by default),
+ * poll duration and peak heap usage are reported per tier.
+ */
+public class ManagementNodeLoadTest {
+    private static final Log LOG = LogFactory.getLog(ManagementNodeLoadTest.class);
+    private static final int MEASURED_POLLS = 3;
+
+    private ManagementNodeSimulator simulator;
+    private SmtpServerStub smtpServer;
+    private PexipManagementNode pexipManagementNode;
+
+    @After
+    public void tearDown() throws Exception {
+        // Called by the scale tiers test for every tier as well, so the closed resources are reset
+        if (pexipManagementNode != null) {
+            pexipManagementNode.destroy();
+            pexipManagementNode = null;
+        }
+        if (simulator != null) {
+            simulator.close();
+            simulator = null;
+        }
+        if (smtpServer != null) {
+            smtpServer.close();
+            smtpServer = null;
+        }
+    }
+
+    @Test
+    public void testPollingScaleTiers() throws Exception {
+        for (String tier : System.getProperty("pexip.loadTest.tiers", "SMALL").split(",")) {
+            SimulatorScale scale = SimulatorScale.valueOf(tier);
+            startSimulator(scale);
+
+            // The first poll warms up the connection pool and the configuration cache
+            Assert.assertEquals(scale.getNodes(), pexipManagementNode.collectConferencingNodesStatistics().size());
+            long totalDuration = 0;
+            long peakHeap = 0;
+            List<AggregatedDevice> conferencingNodes = null;
+            for (int i = 0; i < MEASURED_POLLS; i++) {
+                System.gc();
+                resetPeakHeapUsage();
+                long pollStart = System.nanoTime();
+                conferencingNodes = pexipManagementNode.collectConferencingNodesStatistics();
+                totalDuration += System.nanoTime() - pollStart;
+                peakHeap = Math.max(peakHeap, peakHeapUsage());
+            }
+
+            Assert.assertEquals(scale.getNodes(), conferencingNodes.size());
+            long conferences = conferencingNodes.stream()
+                    .flatMap(node -> node.getProperties().keySet().stream())
+                    .filter(property -> property.startsWith("Conference:") && property.endsWith("#ID"))
+                    .count();
+            Assert.assertEquals(scale.getConferences(), conferences);
+            LOG.info(String.format("Scale %s: poll duration %d ms, peak heap usage %d MB, %d requests served",
+                    scale, totalDuration / MEASURED_POLLS / 1_000_000, peakHeap / 1024 / 1024, simulator.getRequestsCount()));
+
+            tearDown();
+        }
+    }
+
+    @Test
+    public void testPollingWithLatency() throws Exception {
+        startSimulator(SimulatorScale.SMALL);
+        simulator.setLatency(200);
+
+        Assert.assertEquals(SimulatorScale.SMALL.getNodes(), pexipManagementNode.collectConferencingNodesStatistics().size());
+        // Nodes, configuration, conferences, shards and participants are requested concurrently
+        Assert.assertTrue(simulator.getPeakInFlightRequests() > 1);
+    }
+
+    @Test
+    public void testPollingFailsOnServerErrors() throws Exception {
+        startSimulator(SimulatorScale.SMALL);
+        simulator.setErrorRate(1);
+
+        try {
+            pexipManagementNode.collectConferencingNodesStatistics();
+            Assert.fail("Poll is expected to fail, when the Management Node responds with errors");
+        } catch (Exception e) {
+            Assert.assertTrue(simulator.getFailedRequestsCount() > 0);
+        }
+    }
+
+    @Test
+    public void testUnconfiguredNodeDoesNotRefreshConfigurationEveryCycle() throws Exception {
+        startSimulator(SimulatorScale.SMALL);
+        simulator.setConfiguredNodes(SimulatorScale.SMALL.getNodes() - 1);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(SimulatorScale.SMALL.getNodes(), pexipManagementNode.collectConferencingNodesStatistics().size());
+        }
+        // The first cycle requests configuration, as the cache is empty, the next cycles reuse it until it expires
+        Assert.assertEquals(1, simulator.getRequestsCount("configuration/v1/worker_vm/"));
+    }
+
+    @Test
+    public void testMonitoringStatisticsArePublished() throws Exception {
+        startSimulator(SimulatorScale.SMALL);
+        pexipManagementNode.collectConferencingNodesStatistics();
+
+        Map<String, String> statistics = ((ExtendedStatistics) pexipManagementNode.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("1", statistics.get("Monitoring#PollCycleCount"));
+        Assert.assertEquals(String.valueOf(SimulatorScale.SMALL.getNodes()), statistics.get("Monitoring#PollCycleRows"));
+        Assert.assertEquals("0", statistics.get("Monitoring#StatusParticipantErrors"));
+        Assert.assertTrue(Long.parseLong(statistics.get("Monitoring#StatusParticipantBytesReceived")) > 0);
+        Assert.assertTrue(statistics.containsKey("Monitoring#ConferencesMergeP95Ms"));
+    }
+
+    @Test
+    public void testVolatilePropertiesDoNotMarkNodesChanged() throws Exception {
+        startSimulator(SimulatorScale.SMALL);
+        Assert.assertEquals(SimulatorScale.SMALL.getNodes(), pexipManagementNode.updateAggregatedDevicesSnapshot(
+                pexipManagementNode.collectConferencingNodesStatistics()));
+
+        List<AggregatedDevice> conferencingNodes = pexipManagementNode.collectConferencingNodesStatistics();
+        conferencingNodes.get(0).getProperties().put("General#MediaLoad", "99");
+        Assert.assertEquals(0, pexipManagementNode.updateAggregatedDevicesSnapshot(conferencingNodes));
+
+        conferencingNodes = pexipManagementNode.collectConferencingNodesStatistics();
+        conferencingNodes.get(0).getProperties().put("General#Version", "99");
+        Assert.assertEquals(1, pexipManagementNode.updateAggregatedDevicesSnapshot(conferencingNodes));
+
+        pexipManagementNode.setVolatilePropertiesRefreshInterval(0);
+        conferencingNodes = pexipManagementNode.collectConferencingNodesStatistics();
+        conferencingNodes.get(0).getProperties().put("General#Version", "99");
+        conferencingNodes.get(0).getProperties().put("General#MediaLoad", "100");
+        Assert.assertEquals(1, pexipManagementNode.updateAggregatedDevicesSnapshot(conferencingNodes));
+    }
+
+    @Test
+    public void testBulkDisconnectParticipants() throws Exception {
+        startSimulator(SimulatorScale.SMALL);
+        pexipManagementNode.collectConferencingNodesStatistics();
+
+        ControllableProperty disconnectAll = new ControllableProperty();
+        disconnectAll.setProperty("Conference:Meeting Room 1#DisconnectParticipants");
+        disconnectAll.setValue(0);
+        pexipManagementNode.controlProperty(disconnectAll);
+
+        Assert.assertEquals(SimulatorScale.SMALL.getParticipantsPerConference(), simulator.getDisconnectsCount());
+    }
+
+    @Test
+    public void testDisconnectParticipantByConferenceAndDisplayName() throws Exception {
+        startSimulator(SimulatorScale.SMALL);
+        pexipManagementNode.collectConferencingNodesStatistics();
+
+        ControllableProperty disconnect = new ControllableProperty();
+        disconnect.setProperty("Participant:Meeting Room 0:Participant 0#Disconnect");
+        disconnect.setValue(0);
+        pexipManagementNode.controlProperty(disconnect);
+
+        Assert.assertEquals(1, simulator.getDisconnectsCount());
+    }
+
+    @Test
+    public void testStatisticsReportIsSentOverSmtp() throws Exception {
+        smtpServer = new SmtpServerStub();
+        startSimulator(SimulatorScale.SMALL);
+
+        ControllableProperty statisticLogs = new ControllableProperty();
+        statisticLogs.setProperty("Logs#StatisticLogs");
+        statisticLogs.setValue(0);
+        pexipManagementNode.controlProperty(statisticLogs);
+
+        List<String> messages = smtpServer.awaitMessages(1, 60000);
+        Assert.assertEquals(1, messages.size());
+        Assert.assertTrue(messages.get(0).contains("avg_monthly"));
+    }
+
+    private void startSimulator(SimulatorScale scale) throws Exception {
+        simulator = new ManagementNodeSimulator(scale);
+        simulator.start();
+
+        pexipManagementNode = new PexipManagementNode();
+        pexipManagementNode.setHost("localhost");
+        pexipManagementNode.setProtocol("http");
+        pexipManagementNode.setPort(simulator.getPort());
+        pexipManagementNode.setLogin("admin");
+        pexipManagementNode.setPassword("admin");
+        pexipManagementNode.setDisplayConferencesStatistics(true);
+        pexipManagementNode.setConcurrentRequestsLimit(8);
+        if (smtpServer != null) {
+            pexipManagementNode.setSmtpHost("localhost");
+            pexipManagementNode.setSmtpPort(smtpServer.getPort());
+            pexipManagementNode.setSmtpSender("noreply@pexip.local");
+            pexipManagementNode.setEmailReportsRecipients("reports@pexip.local");
+        }
+        pexipManagementNode.init();
+    }
+
+    private void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private long peakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
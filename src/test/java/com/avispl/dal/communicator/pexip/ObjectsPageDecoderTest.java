@@ -0,0 +1,50 @@
+package com.avispl.dal.communicator.pexip;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+public class ObjectsPageDecoderTest {
+    private static final String PAGE = "{\"meta\": {\"limit\": 2, \"next\": \"/api/admin/status/v1/participant/?limit=2&offset=2\", \"offset\": 0, \"total_count\": 3},"
+            + " \"objects\": [{\"id\": \"1\", \"display_name\": \"Alice\", \"conference\": \"VMR\", \"rx_bandwidth\": 768, \"media_streams\": [{\"type\": \"video\"}]},"
+            + " {\"id\": \"2\", \"display_name\": null, \"conference\": \"VMR\", \"service_tag\": {\"nested\": [1, 2]}}]}";
+
+    @Test
+    public void testRequestedFieldsAreDecoded() throws Exception {
+        List<ObjectNode> objects = new ArrayList<>();
+        String next = ObjectsPageDecoder.decode(PAGE.getBytes(StandardCharsets.UTF_8), new HashSet<>(Arrays.asList("id", "display_name")), objects::add);
+
+        Assert.assertEquals("/api/admin/status/v1/participant/?limit=2&offset=2", next);
+        Assert.assertEquals(2, objects.size());
+        Assert.assertEquals("Alice", objects.get(0).get("display_name").asText());
+        Assert.assertEquals(2, objects.get(0).size());
+        Assert.assertFalse(objects.get(0).has("media_streams"));
+        Assert.assertTrue(objects.get(1).get("display_name").isNull());
+        Assert.assertFalse(objects.get(1).has("service_tag"));
+    }
+
+    @Test
+    public void testAllFieldsAreDecodedWithoutFieldsFilter() throws Exception {
+        List<ObjectNode> objects = new ArrayList<>();
+        ObjectsPageDecoder.decode(PAGE.getBytes(StandardCharsets.UTF_8), null, objects::add);
+
+        Assert.assertEquals(5, objects.get(0).size());
+        Assert.assertEquals("video", objects.get(0).get("media_streams").get(0).get("type").asText());
+        Assert.assertEquals(2, objects.get(1).get("service_tag").get("nested").get(1).asInt());
+    }
+
+    @Test
+    public void testLastPageHasNoNextLink() throws Exception {
+        List<ObjectNode> objects = new ArrayList<>();
+        String next = ObjectsPageDecoder.decode("{\"objects\": [], \"meta\": {\"next\": null}}".getBytes(StandardCharsets.UTF_8), null, objects::add);
+
+        Assert.assertNull(next);
+        Assert.assertTrue(objects.isEmpty());
+    }
+}
@@ -5,12 +5,14 @@ import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class PexipManagementNodeTest {
     private PexipManagementNode pexipManagementNode;
@@ -32,10 +34,15 @@ public class PexipManagementNodeTest {
         pexipManagementNode.init();
     }
 
+    @After
+    public void tearDown() {
+        pexipManagementNode.destroy();
+    }
+
     @Test
     public void testRetrieveMultipleStatistics() throws Exception {
         pexipManagementNode.setDisplayConferencesStatistics(true);
-        List<AggregatedDevice> devices = pexipManagementNode.retrieveMultipleStatistics();
+        List<AggregatedDevice> devices = awaitStatisticsSnapshot();
 
         Assert.assertNotNull(devices.get(0));
         Assert.assertEquals("CHI-SRV-PEXIP-CONF05", devices.get(0).getProperties().get("Configuration#Hostname"));
@@ -85,7 +92,7 @@ public class PexipManagementNodeTest {
     public void testDisconnectConference() throws Exception {
        // Conference:Symphony_625_3075417_LH Pexip MCU#Disconnect
        // Stuff to enrich caches and known participants/conferences maps
-        pexipManagementNode.retrieveMultipleStatistics();
+        awaitStatisticsSnapshot();
         pexipManagementNode.getMultipleStatistics();
 
         ControllableProperty disconnect = new ControllableProperty();
@@ -97,10 +104,24 @@ public class PexipManagementNodeTest {
     public void testExportConferenceParticipants() throws Exception {
         // Conference:Symphony_625_3075417_LH Pexip MCU#Disconnect
         // Stuff to enrich caches and known participants/conferences maps
-        pexipManagementNode.retrieveMultipleStatistics();
+        awaitStatisticsSnapshot();
         pexipManagementNode.getMultipleStatistics();
         ControllableProperty export = new ControllableProperty();
         export.setProperty("Conference:Symphony_625_3075558_LH Pexip MCU#ExportParticipants");
         pexipManagementNode.controlProperty(export);
     }
+
+    /**
+     * Statistics are collected in background, so the first {@link PexipManagementNode#retrieveMultipleStatistics()}
+     * call only starts the collector. Poll until the first snapshot is available.
+     */
+    private List<AggregatedDevice> awaitStatisticsSnapshot() throws Exception {
+        List<AggregatedDevice> devices = pexipManagementNode.retrieveMultipleStatistics();
+        long deadline = System.currentTimeMillis() + 60000;
+        while (devices.isEmpty() && System.currentTimeMillis() < deadline) {
+            TimeUnit.SECONDS.sleep(1);
+            devices = pexipManagementNode.retrieveMultipleStatistics();
+        }
+        return devices;
+    }
 }
@@ -0,0 +1,62 @@
+package com.avispl.dal.communicator.pexip;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReportDispatcherTest {
+    private final ReportDispatcher reportDispatcher = new ReportDispatcher(4, 3, 10);
+
+    @After
+    public void tearDown() {
+        reportDispatcher.shutdown();
+    }
+
+    @Test
+    public void testDuplicateReportsAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ReportDispatcher.ReportJob job = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            release.await();
+        };
+
+        Assert.assertTrue(reportDispatcher.submit("Logs#LicensingLogs", job));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(reportDispatcher.submit("Logs#LicensingLogs", job));
+        Assert.assertEquals("Logs#LicensingLogs", reportDispatcher.getRunningReport());
+        release.countDown();
+
+        awaitSent();
+        Assert.assertEquals(1, runs.get());
+        Assert.assertNotNull(reportDispatcher.getLastSentReport());
+    }
+
+    @Test
+    public void testFailedReportIsRetried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        reportDispatcher.submit("Logs#StatisticLogs", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("SMTP server is not available");
+            }
+        });
+
+        awaitSent();
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertTrue(reportDispatcher.getLastError().contains("SMTP server is not available"));
+        Assert.assertTrue(reportDispatcher.getLastSentReport().startsWith("Logs#StatisticLogs"));
+    }
+
+    private void awaitSent() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (reportDispatcher.getLastSentReport() == null && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.avispl.dal.communicator.pexip.mapping;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class CompiledMappingTest {
+    private static final String[] MODELS = {"NodeLicensing", "NodeLicensingReport", "ConferenceStatus", "ConferenceShard",
+            "Participant", "ConferencingNodesConfig", "ConferenceHistoricalReportStats", "ParticipantHistoricalReportStats"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+    private CompiledMapping compiledMapping;
+
+    @Before
+    public void setUp() throws Exception {
+        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("mapping/model-mapping.yml", getClass());
+        aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+        compiledMapping = CompiledMapping.compile(mapping);
+    }
+
+    @Test
+    public void testCompiledModelsMatchAggregatedDeviceProcessor() {
+        for (String modelName : MODELS) {
+            CompiledModel model = compiledMapping.getModel(modelName);
+            Assert.assertNotNull(model.getReferencedFields());
+
+            ObjectNode node = objectMapper.createObjectNode();
+            int index = 0;
+            for (String field : model.getReferencedFields()) {
+                switch (index++ % 5) {
+                    case 0:
+                        node.put(field, "value " + field);
+                        break;
+                    case 1:
+                        node.put(field, index);
+                        break;
+                    case 2:
+                        node.put(field, index % 2 == 0);
+                        break;
+                    case 3:
+                        node.putNull(field);
+                        break;
+                    default:
+                        node.putArray(field).add(field);
+                        break;
+                }
+            }
+
+            AggregatedDevice expected = new AggregatedDevice();
+            aggregatedDeviceProcessor.applyProperties(expected, node, modelName);
+            Assert.assertEquals(modelName, expected.getProperties(), model.map(node));
+        }
+    }
+
+    @Test
+    public void testMissingFieldsAreSkipped() {
+        for (String modelName : MODELS) {
+            Assert.assertTrue(modelName, compiledMapping.getModel(modelName).map(objectMapper.createObjectNode()).isEmpty());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownModel() {
+        compiledMapping.getModel("UnknownModel");
+    }
+}
@@ -0,0 +1,13 @@
+package com.avispl.dal.communicator.pexip.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FlightRecorderEventsTest {
+
+    @Test
+    public void testRecordingsAreNoOpWithoutRunningRecording() {
+        Assert.assertSame(FlightRecorderEvents.Recording.NONE, FlightRecorderEvents.beginPollCycle());
+        Assert.assertSame(FlightRecorderEvents.RequestRecording.NONE, FlightRecorderEvents.beginRequest("GET", "StatusConference"));
+    }
+}
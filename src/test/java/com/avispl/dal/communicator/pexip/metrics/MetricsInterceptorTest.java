@@ -0,0 +1,62 @@
+package com.avispl.dal.communicator.pexip.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.net.URI;
+
+public class MetricsInterceptorTest {
+    private final AdapterMetrics adapterMetrics = new AdapterMetrics();
+    private final MetricsInterceptor interceptor = new MetricsInterceptor(adapterMetrics);
+
+    @Test
+    public void testEndpointName() {
+        Assert.assertEquals("StatusParticipant", MetricsInterceptor.endpointName(URI.create("https://pexip.local/api/admin/status/v1/participant/?limit=5000")));
+        Assert.assertEquals("ConfigurationWorkerVm", MetricsInterceptor.endpointName(URI.create("https://pexip.local/api/admin/configuration/v1/worker_vm/")));
+        Assert.assertEquals("HistoryConference", MetricsInterceptor.endpointName(URI.create("https://pexip.local/api/admin/history/v1/conference/42/")));
+        Assert.assertEquals("CommandParticipantDisconnect", MetricsInterceptor.endpointName(URI.create("https://pexip.local/api/admin/command/v1/participant/disconnect/")));
+        Assert.assertEquals("Other", MetricsInterceptor.endpointName(URI.create("https://pexip.local/status")));
+    }
+
+    @Test
+    public void testResponseIsRecordedOnClose() throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://pexip.local/api/admin/status/v1/conference/"));
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+                (httpRequest, body) -> new MockClientHttpResponse("{\"objects\": []}".getBytes(), HttpStatus.OK));
+        Assert.assertEquals(15, StreamUtils.copyToByteArray(response.getBody()).length);
+        Assert.assertEquals(0, adapterMetrics.get("StatusConference").getCount());
+
+        response.close();
+        response.close();
+        OperationMetrics metrics = adapterMetrics.get("StatusConference");
+        Assert.assertEquals(1, metrics.getCount());
+        Assert.assertEquals(0, metrics.getErrors());
+        Assert.assertEquals(15, metrics.getBytes());
+    }
+
+    @Test
+    public void testFailedRequestsAreCountedAsErrors() throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://pexip.local/api/admin/command/v1/conference/disconnect/"));
+        interceptor.intercept(request, new byte[0],
+                (httpRequest, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE)).close();
+        try {
+            interceptor.intercept(request, new byte[0], (httpRequest, body) -> {
+                throw new IOException("Connection refused");
+            });
+            Assert.fail("Request exception is expected to be propagated");
+        } catch (IOException e) {
+            Assert.assertEquals("Connection refused", e.getMessage());
+        }
+
+        OperationMetrics metrics = adapterMetrics.get("CommandConferenceDisconnect");
+        Assert.assertEquals(2, metrics.getCount());
+        Assert.assertEquals(2, metrics.getErrors());
+    }
+}
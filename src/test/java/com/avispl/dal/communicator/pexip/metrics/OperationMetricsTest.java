@@ -0,0 +1,75 @@
+package com.avispl.dal.communicator.pexip.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class OperationMetricsTest {
+
+    @Test
+    public void testBucketsCoverValuesWithBoundedError() {
+        for (long micros = 0; micros < 1_000_000; micros += micros / 7 + 1) {
+            int index = OperationMetrics.bucketIndex(micros);
+            long upperBound = OperationMetrics.bucketUpperBound(index);
+            Assert.assertTrue(micros <= upperBound);
+            Assert.assertTrue(upperBound <= micros + micros / 4 + 1);
+            if (index > 0) {
+                Assert.assertTrue(micros > OperationMetrics.bucketUpperBound(index - 1));
+            }
+        }
+        Assert.assertEquals(OperationMetrics.bucketIndex(Long.MAX_VALUE), OperationMetrics.bucketIndex(1L << 50));
+    }
+
+    @Test
+    public void testPercentiles() {
+        OperationMetrics metrics = new OperationMetrics();
+        Assert.assertEquals(0, metrics.getPercentileMicros(99));
+        for (int millis = 1; millis <= 100; millis++) {
+            metrics.record(TimeUnit.MILLISECONDS.toNanos(millis), millis > 98);
+        }
+
+        Assert.assertEquals(100, metrics.getCount());
+        Assert.assertEquals(2, metrics.getErrors());
+        Assert.assertEquals(100_000, metrics.getLastMicros());
+        Assert.assertEquals(100_000, metrics.getMaxMicros());
+        assertWithin(50_000, metrics.getPercentileMicros(50));
+        assertWithin(95_000, metrics.getPercentileMicros(95));
+        assertWithin(99_000, metrics.getPercentileMicros(99));
+        Assert.assertEquals(100_000, metrics.getPercentileMicros(100));
+    }
+
+    @Test
+    public void testMetricsArePublishedAsMonitoringGroup() {
+        AdapterMetrics adapterMetrics = new AdapterMetrics();
+        adapterMetrics.get("StatusParticipant").record(TimeUnit.MILLISECONDS.toNanos(120), false);
+        adapterMetrics.get("StatusParticipant").addBytes(2048);
+        adapterMetrics.get("PollCycle").record(TimeUnit.MILLISECONDS.toNanos(300), true);
+        adapterMetrics.get("PollCycle").addRows(5);
+
+        Map<String, String> statistics = new HashMap<>();
+        adapterMetrics.publish(statistics);
+
+        Assert.assertEquals("1", statistics.get("Monitoring#StatusParticipantCount"));
+        Assert.assertEquals("0", statistics.get("Monitoring#StatusParticipantErrors"));
+        Assert.assertEquals("120", statistics.get("Monitoring#StatusParticipantLastMs"));
+        Assert.assertEquals("120", statistics.get("Monitoring#StatusParticipantP99Ms"));
+        Assert.assertEquals("2048", statistics.get("Monitoring#StatusParticipantBytesReceived"));
+        Assert.assertFalse(statistics.containsKey("Monitoring#StatusParticipantRows"));
+        Assert.assertEquals("1", statistics.get("Monitoring#PollCycleErrors"));
+        Assert.assertEquals("300", statistics.get("Monitoring#PollCycleMaxMs"));
+        Assert.assertEquals("5", statistics.get("Monitoring#PollCycleRows"));
+        Assert.assertFalse(statistics.containsKey("Monitoring#PollCycleBytesReceived"));
+
+        adapterMetrics.clear();
+        statistics.clear();
+        adapterMetrics.publish(statistics);
+        Assert.assertTrue(statistics.isEmpty());
+    }
+
+    private void assertWithin(long expected, long actual) {
+        Assert.assertTrue("Expected ~" + expected + ", got " + actual, actual >= expected && actual <= expected + expected / 4);
+    }
+}
@@ -0,0 +1,56 @@
+package com.avispl.dal.communicator.pexip.reports;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CsvReportWriterTest {
+    private ReportSpool reportSpool;
+
+    @Before
+    public void setUp() {
+        reportSpool = new ReportSpool("pexip-reports-test-");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        reportSpool.close();
+    }
+
+    @Test
+    public void testRowsAreWrittenWithFixedSchema() throws Exception {
+        Path file = reportSpool.createReportFile("conferences_logs_2021-06-01T10:00");
+        try (CsvReportWriter writer = new CsvReportWriter(file, Arrays.asList("Name", "Duration", "Tag"))) {
+            Map<String, String> first = new HashMap<>();
+            first.put("Tag", "tag");
+            first.put("Name", "Meeting, \"Weekly\"");
+            first.put("Unknown", "skipped");
+            writer.writeRow(first);
+
+            Map<String, String> second = new HashMap<>();
+            second.put("Duration", "42");
+            writer.writeRow(second);
+            Assert.assertEquals(2, writer.getRowsCount());
+        }
+
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Assert.assertEquals("Name,Duration,Tag\r\n\"Meeting, \"\"Weekly\"\"\",-,tag\r\n-,42,-", content);
+    }
+
+    @Test
+    public void testSpoolIsRemovedOnClose() throws Exception {
+        Path file = reportSpool.createReportFile("participants");
+        Assert.assertTrue(Files.exists(file));
+        reportSpool.close();
+        Assert.assertFalse(Files.exists(file));
+        Assert.assertFalse(Files.exists(file.getParent()));
+    }
+}
@@ -0,0 +1,338 @@
+package com.avispl.dal.communicator.pexip.simulator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Local Pexip Management Node, built on WireMock. Serves status, configuration, licensing, history and command API
+ * endpoints with the generated data of the given {@link SimulatorScale}, supporting limit/offset pagination and
+ * end_time filters of the history API. Latency and server errors can be injected, to test the adapter behaviour
+ * under degraded conditions.
+ */
+public final class ManagementNodeSimulator implements Closeable {
+    private static final String TRANSFORMER = "pexip-simulator";
+    private static final String API = "/api/admin/+";
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SimulatedDataset dataset;
+    private final WireMockServer server;
+    private final AtomicLong requestsCount = new AtomicLong();
+    private final AtomicLong failedRequestsCount = new AtomicLong();
+    private final AtomicLong disconnectsCount = new AtomicLong();
+    private final Map<String, AtomicLong> requestsCountByPath = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger peakInFlightRequests = new AtomicInteger();
+    private final Random random = new Random(0);
+
+    private volatile int latency;
+    private volatile double errorRate;
+    private volatile int configuredNodes = -1;
+
+    /**
+     * Create simulator, it is not started until {@link #start()} is called
+     *
+     * @param scale volume of the data to serve
+     */
+    public ManagementNodeSimulator(SimulatorScale scale) {
+        dataset = new SimulatedDataset(scale);
+        server = new WireMockServer(options().dynamicPort().containerThreads(32).extensions(new PageTransformer()));
+    }
+
+    /**
+     * Start simulator on a free local port
+     */
+    public void start() {
+        server.start();
+        stubList("status/v1/worker_vm");
+        stubList("configuration/v1/worker_vm");
+        stubList("status/v1/conference");
+        stubList("status/v1/conference_shard");
+        stubList("status/v1/participant");
+        stubList("status/v1/licensing");
+        stubList("history/v1/conference");
+        stubList("history/v1/participant");
+        server.stubFor(post(urlPathMatching(API + "command/v1/(participant|conference)/disconnect/?"))
+                .willReturn(aResponse().withTransformers(TRANSFORMER)));
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+
+    /**
+     * Retrieve local port the simulator listens on, once started
+     *
+     * @return simulator port
+     */
+    public int getPort() {
+        return server.port();
+    }
+
+    /**
+     * Sets delay (ms) of every response
+     *
+     * @param latency response delay
+     */
+    public void setLatency(int latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Sets share of the requests, that fail with 503 Service Unavailable
+     *
+     * @param errorRate value from 0 (no errors) to 1 (all requests fail)
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Sets number of the conferencing nodes, that have configuration. The rest of the nodes are only listed by the
+     * status API, as it happens to the renamed or just deployed nodes
+     *
+     * @param configuredNodes number of the configured nodes, or -1 for all the nodes
+     */
+    public void setConfiguredNodes(int configuredNodes) {
+        this.configuredNodes = configuredNodes;
+    }
+
+    /**
+     * Retrieve number of the requests served, including failed ones
+     *
+     * @return number of the requests
+     */
+    public long getRequestsCount() {
+        return requestsCount.get();
+    }
+
+    /**
+     * Retrieve number of the requests of the endpoint, including every page
+     *
+     * @param endpoint endpoint path after /api/admin/, e.g. configuration/v1/worker_vm/
+     * @return number of the requests served
+     */
+    public long getRequestsCount(String endpoint) {
+        AtomicLong count = requestsCountByPath.get("/api/admin/" + endpoint);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Retrieve number of the requests, failed by the injected errors
+     *
+     * @return number of the failed requests
+     */
+    public long getFailedRequestsCount() {
+        return failedRequestsCount.get();
+    }
+
+    /**
+     * Retrieve number of the disconnect commands received
+     *
+     * @return number of the disconnect commands
+     */
+    public long getDisconnectsCount() {
+        return disconnectsCount.get();
+    }
+
+    /**
+     * Retrieve max number of the requests, that were served at the same time. Requests are only held in flight
+     * for the {@link #setLatency(int)} delay, so the value is only meaningful with latency set
+     *
+     * @return peak number of the concurrent requests
+     */
+    public int getPeakInFlightRequests() {
+        return peakInFlightRequests.get();
+    }
+
+    private void stubList(String endpoint) {
+        server.stubFor(get(urlPathMatching(API + endpoint + "/?")).willReturn(aResponse().withTransformers(TRANSFORMER)));
+    }
+
+    /**
+     * Generates the response page of the requested endpoint
+     */
+    private final class PageTransformer extends ResponseDefinitionTransformer {
+        private final JsonFactory jsonFactory = new JsonFactory();
+
+        @Override
+        public String getName() {
+            return TRANSFORMER;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        @Override
+        public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files, Parameters parameters) {
+            requestsCount.incrementAndGet();
+            // Latency is applied here rather than with a fixed delay, so that the requests in flight can be counted
+            peakInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+            try {
+                delay();
+                return respond(request);
+            } finally {
+                inFlightRequests.decrementAndGet();
+            }
+        }
+
+        private void delay() {
+            int delay = latency;
+            if (delay <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private ResponseDefinition respond(Request request) {
+            double failureRate = errorRate;
+            boolean failed;
+            synchronized (random) {
+                failed = failureRate > 0 && random.nextDouble() < failureRate;
+            }
+            if (failed) {
+                failedRequestsCount.incrementAndGet();
+                return aResponse().withStatus(503).withBody("Service Unavailable").build();
+            }
+            try {
+                String path = request.getUrl().split("\\?", 2)[0].replaceAll("/+", "/");
+                requestsCountByPath.computeIfAbsent(path, key -> new AtomicLong()).incrementAndGet();
+                byte[] body;
+                if (path.contains("/command/")) {
+                    disconnectsCount.incrementAndGet();
+                    body = "{\"status\": \"success\", \"data\": null}".getBytes();
+                } else {
+                    body = page(request, path);
+                }
+                return aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody(body).build();
+            } catch (IllegalArgumentException e) {
+                return aResponse().withStatus(400).withBody(e.getMessage()).build();
+            } catch (IOException e) {
+                return aResponse().withStatus(500).withBody(e.getMessage()).build();
+            }
+        }
+
+        private byte[] page(Request request, String path) throws IOException {
+            long[] range;
+            SimulatedDataset.ObjectSource source;
+            if (path.endsWith("/status/v1/worker_vm/")) {
+                range = new long[]{0, dataset.getNodesCount()};
+                source = dataset.conferencingNodes();
+            } else if (path.endsWith("/configuration/v1/worker_vm/")) {
+                range = new long[]{0, configuredNodes < 0 ? dataset.getNodesCount() : configuredNodes};
+                source = dataset.conferencingNodesConfiguration();
+            } else if (path.endsWith("/status/v1/conference/")) {
+                range = new long[]{0, dataset.getConferencesCount()};
+                source = dataset.conferences();
+            } else if (path.endsWith("/status/v1/conference_shard/")) {
+                range = new long[]{0, dataset.getConferencesCount()};
+                source = dataset.conferenceShards();
+            } else if (path.endsWith("/status/v1/participant/")) {
+                String conference = parameter(request, "conference");
+                range = conference == null ? new long[]{0, dataset.getParticipantsCount()} : dataset.conferenceParticipants(conference);
+                source = dataset.participants();
+            } else if (path.endsWith("/status/v1/licensing/")) {
+                range = new long[]{0, 1};
+                source = dataset.licensing();
+            } else if (path.endsWith("/history/v1/conference/")) {
+                range = dataset.historyConferences(dateTime(parameter(request, "end_time__gte")), dateTime(parameter(request, "end_time__lt")));
+                source = dataset.historyConferences();
+            } else if (path.endsWith("/history/v1/participant/")) {
+                range = dataset.historyParticipants(dateTime(parameter(request, "end_time__gte")), dateTime(parameter(request, "end_time__lt")));
+                source = dataset.historyParticipants();
+            } else {
+                throw new IllegalArgumentException("Unknown endpoint: " + path);
+            }
+
+            String limitValue = parameter(request, "limit");
+            String offsetValue = parameter(request, "offset");
+            long limit = limitValue == null ? DEFAULT_LIMIT : Long.parseLong(limitValue);
+            long offset = offsetValue == null ? 0 : Long.parseLong(offsetValue);
+            long total = range[1] - range[0];
+            long pageEnd = Math.min(total, offset + limit);
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (JsonGenerator generator = jsonFactory.createGenerator(body)) {
+                generator.writeStartObject();
+                generator.writeObjectFieldStart("meta");
+                generator.writeNumberField("limit", limit);
+                if (pageEnd < total) {
+                    generator.writeStringField("next", nextPageLink(request, pageEnd));
+                } else {
+                    generator.writeNullField("next");
+                }
+                generator.writeNumberField("offset", offset);
+                generator.writeNullField("previous");
+                generator.writeNumberField("total_count", total);
+                generator.writeEndObject();
+                generator.writeArrayFieldStart("objects");
+                for (long index = range[0] + offset; index < range[0] + pageEnd; index++) {
+                    generator.writeStartObject();
+                    source.write(generator, index);
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            return body.toByteArray();
+        }
+
+        /**
+         * Build next page link, an absolute path with the original query and the next offset, as Pexip does
+         */
+        private String nextPageLink(Request request, long nextOffset) {
+            String[] url = request.getUrl().split("\\?", 2);
+            StringBuilder link = new StringBuilder(url[0].replaceAll("/+", "/")).append('?');
+            if (url.length > 1) {
+                for (String parameter : url[1].split("&")) {
+                    if (!parameter.isEmpty() && !parameter.startsWith("offset=")) {
+                        link.append(parameter).append('&');
+                    }
+                }
+            }
+            return link.append("offset=").append(nextOffset).toString();
+        }
+
+        private String parameter(Request request, String name) {
+            QueryParameter parameter = request.queryParameter(name);
+            return parameter.isPresent() ? parameter.firstValue() : null;
+        }
+
+        private LocalDateTime dateTime(String value) {
+            if (value == null || value.isEmpty()) {
+                return null;
+            }
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        }
+    }
+}
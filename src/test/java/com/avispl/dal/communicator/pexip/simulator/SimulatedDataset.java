@@ -0,0 +1,373 @@
+package com.avispl.dal.communicator.pexip.simulator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Management Node data of the given {@link SimulatorScale}. Objects are generated by index, when a page is requested,
+ * so large volumes are served without keeping them in memory. The data is deterministic for the same scale and day.
+ */
+final class SimulatedDataset {
+    /**
+     * Generated objects of a single endpoint
+     */
+    interface ObjectSource {
+        /**
+         * Write object to the response
+         *
+         * @param generator response generator
+         * @param index     object index
+         * @throws IOException if the object cannot be written
+         */
+        void write(JsonGenerator generator, long index) throws IOException;
+    }
+
+    private static final String CONFERENCE_NAME_PREFIX = "Meeting Room ";
+    private static final long SECONDS_PER_DAY = 86400;
+
+    private final SimulatorScale scale;
+    private final LocalDateTime historyStart;
+    private final long historyConferences;
+
+    SimulatedDataset(SimulatorScale scale) {
+        this.scale = scale;
+        historyStart = LocalDate.now().minusDays(scale.getHistoryDays()).atStartOfDay();
+        // Today is covered as well, conferences that end in the future are filtered out by the end_time__lt filter
+        historyConferences = (scale.getHistoryDays() + 1L) * scale.getHistoryConferencesPerDay();
+    }
+
+    /**
+     * Retrieve number of the conferencing nodes
+     *
+     * @return number of the conferencing nodes
+     */
+    long getNodesCount() {
+        return scale.getNodes();
+    }
+
+    /**
+     * Retrieve number of the active conferences
+     *
+     * @return number of the active conferences
+     */
+    long getConferencesCount() {
+        return scale.getConferences();
+    }
+
+    /**
+     * Retrieve number of the active participants
+     *
+     * @return number of the active participants
+     */
+    long getParticipantsCount() {
+        return scale.getParticipants();
+    }
+
+    /**
+     * Retrieve number of the historical conferences, including today
+     *
+     * @return number of the historical conferences
+     */
+    long getHistoryConferencesCount() {
+        return historyConferences;
+    }
+
+    /**
+     * Retrieve number of the historical participants, including today
+     *
+     * @return number of the historical participants
+     */
+    long getHistoryParticipantsCount() {
+        return historyConferences * scale.getHistoryParticipantsPerConference();
+    }
+
+    /**
+     * Retrieve range of the participants of an active conference
+     *
+     * @param conferenceName name of the conference
+     * @return first (inclusive) and last (exclusive) participant indexes
+     */
+    long[] conferenceParticipants(String conferenceName) {
+        if (!conferenceName.startsWith(CONFERENCE_NAME_PREFIX)) {
+            return new long[]{0, 0};
+        }
+        long conference;
+        try {
+            conference = Long.parseLong(conferenceName.substring(CONFERENCE_NAME_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return new long[]{0, 0};
+        }
+        long perConference = scale.getParticipantsPerConference();
+        long from = Math.min(conference * perConference, scale.getParticipants());
+        return new long[]{from, Math.min(from + perConference, scale.getParticipants())};
+    }
+
+    /**
+     * Retrieve range of the historical conferences, ended within the period
+     *
+     * @param from start of the period (inclusive), or null
+     * @param to   end of the period (exclusive), or null
+     * @return first (inclusive) and last (exclusive) conference indexes
+     */
+    long[] historyConferences(LocalDateTime from, LocalDateTime to) {
+        return historyRange(historyConferences, this::historyConferenceEndSecond, from, to);
+    }
+
+    /**
+     * Retrieve range of the historical participants, ended within the period
+     *
+     * @param from start of the period (inclusive), or null
+     * @param to   end of the period (exclusive), or null
+     * @return first (inclusive) and last (exclusive) participant indexes
+     */
+    long[] historyParticipants(LocalDateTime from, LocalDateTime to) {
+        long perConference = scale.getHistoryParticipantsPerConference();
+        return historyRange(getHistoryParticipantsCount(), index -> historyConferenceEndSecond(index / perConference), from, to);
+    }
+
+    ObjectSource conferencingNodes() {
+        return (generator, index) -> {
+            generator.writeStringField("id", String.valueOf(index + 1));
+            generator.writeStringField("name", nodeName(index));
+            generator.writeStringField("resource_uri", "/api/admin/status/v1/worker_vm/" + (index + 1) + "/");
+            generator.writeNumberField("max_audio_calls", 400);
+            generator.writeNumberField("max_full_hd_calls", 12);
+            generator.writeNumberField("max_hd_calls", 25);
+            generator.writeNumberField("max_media_tokens", 2500);
+            generator.writeNumberField("max_sd_calls", 50);
+            generator.writeNumberField("media_load", index % 100);
+            generator.writeNumberField("media_tokens_used", index * 10 % 2500);
+            generator.writeNumberField("total_ram", 16383908);
+            generator.writeNumberField("signaling_count", index % 7);
+            generator.writeStringField("boot_time", historyStart.toString());
+            generator.writeNumberField("configuration_id", index + 1);
+            generator.writeStringField("cpu_capabilities", "AVX2");
+            generator.writeNumberField("cpu_count", 8);
+            generator.writeStringField("cpu_model", "Intel(R) Xeon(R) Platinum 8259CL CPU @ 2.50GHz");
+            generator.writeStringField("deploy_status", "DEPLOYED");
+            generator.writeStringField("hypervisor", "VMware");
+            generator.writeStringField("last_reported", LocalDate.now().atStartOfDay().toString());
+            generator.writeStringField("last_updated", LocalDate.now().atStartOfDay().toString());
+            generator.writeBooleanField("maintenance_mode", false);
+            generator.writeStringField("node_type", "CONFERENCING");
+            generator.writeStringField("system_location", location(index));
+            generator.writeStringField("upgrade_status", "IDLE");
+            generator.writeStringField("version", "26.0.0");
+        };
+    }
+
+    ObjectSource conferencingNodesConfiguration() {
+        return (generator, index) -> {
+            generator.writeNumberField("id", index + 1);
+            generator.writeStringField("address", nodeAddress(index));
+            generator.writeStringField("alternative_fqdn", "");
+            generator.writeBooleanField("cloud_bursting", false);
+            generator.writeStringField("domain", "pexip.local");
+            generator.writeBooleanField("enable_distributed_database", true);
+            generator.writeBooleanField("enable_ssh", false);
+            generator.writeStringField("gateway", "10.0.0.1");
+            generator.writeStringField("hostname", nodeName(index).toUpperCase());
+            generator.writeBooleanField("maintenance_mode", false);
+            generator.writeBooleanField("managed", true);
+            generator.writeStringField("name", nodeName(index));
+            generator.writeStringField("netmask", "255.255.0.0");
+            generator.writeStringField("node_type", "CONFERENCING");
+            generator.writeStringField("snmp_mode", "DISABLED");
+            generator.writeBooleanField("transcoding", true);
+        };
+    }
+
+    ObjectSource conferences() {
+        return (generator, index) -> {
+            generator.writeBooleanField("guests_muted", false);
+            generator.writeStringField("id", conferenceId(index));
+            generator.writeBooleanField("is_locked", false);
+            generator.writeBooleanField("is_started", true);
+            generator.writeStringField("name", CONFERENCE_NAME_PREFIX + index);
+            generator.writeStringField("resource_uri", "/api/admin/status/v1/conference/" + conferenceId(index) + "/");
+            generator.writeStringField("service_type", "conference");
+            generator.writeStringField("start_time", LocalDate.now().atStartOfDay().toString());
+            generator.writeStringField("tag", "");
+        };
+    }
+
+    ObjectSource conferenceShards() {
+        return (generator, index) -> {
+            generator.writeStringField("id", conferenceId(index));
+            generator.writeStringField("conference", CONFERENCE_NAME_PREFIX + index);
+            generator.writeBooleanField("guests_muted", false);
+            generator.writeBooleanField("is_direct", false);
+            generator.writeStringField("node", nodeAddress(index % scale.getNodes()));
+            generator.writeStringField("system_location", location(index % scale.getNodes()));
+        };
+    }
+
+    ObjectSource participants() {
+        long perConference = scale.getParticipantsPerConference();
+        return (generator, index) -> {
+            long conference = index / perConference;
+            String id = conferenceId(conference) + "-" + index;
+            generator.writeNumberField("bandwidth", 1536);
+            generator.writeStringField("call_direction", index % 2 == 0 ? "in" : "out");
+            generator.writeStringField("call_quality", "1_good");
+            generator.writeStringField("call_uuid", id);
+            generator.writeStringField("conference", CONFERENCE_NAME_PREFIX + conference);
+            generator.writeStringField("connect_time", LocalDate.now().atStartOfDay().toString());
+            generator.writeStringField("conversation_id", id);
+            generator.writeStringField("destination_alias", "meet." + conference + "@pexip.local");
+            generator.writeStringField("display_name", "Participant " + index);
+            generator.writeStringField("encryption", "On");
+            generator.writeBooleanField("has_media", true);
+            generator.writeStringField("id", id);
+            generator.writeBooleanField("is_disconnect_supported", true);
+            generator.writeBooleanField("is_muted", false);
+            generator.writeBooleanField("is_presenting", false);
+            generator.writeNumberField("licence_count", 1);
+            generator.writeStringField("licence_type", "port");
+            generator.writeStringField("media_node", nodeAddress(conference % scale.getNodes()));
+            generator.writeStringField("protocol", "WebRTC");
+            generator.writeStringField("remote_address", "192.168." + index / 250 % 250 + "." + index % 250);
+            generator.writeNumberField("remote_port", 40000 + index % 20000);
+            generator.writeStringField("role", index % perConference == 0 ? "chair" : "guest");
+            generator.writeNumberField("rx_bandwidth", 768);
+            generator.writeStringField("service_type", "conference");
+            generator.writeStringField("signalling_node", nodeAddress(conference % scale.getNodes()));
+            generator.writeStringField("source_alias", "participant" + index + "@pexip.local");
+            generator.writeStringField("system_location", location(conference % scale.getNodes()));
+            generator.writeNumberField("tx_bandwidth", 768);
+            generator.writeStringField("vendor", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0 Safari/537.36");
+        };
+    }
+
+    ObjectSource licensing() {
+        return (generator, index) -> {
+            generator.writeNumberField("audio_count", 3);
+            generator.writeNumberField("audio_total", 100);
+            generator.writeNumberField("port_count", Math.min(scale.getParticipants(), 65));
+            generator.writeNumberField("port_total", 65);
+            generator.writeNumberField("system_count", scale.getNodes());
+            generator.writeNumberField("system_total", 1000);
+            generator.writeNumberField("vmr_count", scale.getConferences());
+            generator.writeNumberField("vmr_total", 10000);
+        };
+    }
+
+    ObjectSource historyConferences() {
+        long perConference = scale.getHistoryParticipantsPerConference();
+        return (generator, index) -> {
+            LocalDateTime endTime = historyStart.plusSeconds(historyConferenceEndSecond(index));
+            generator.writeNumberField("duration", 600 + index % 3600);
+            generator.writeStringField("end_time", endTime.toString());
+            generator.writeStringField("id", historyId(index));
+            generator.writeNumberField("instant_message_count", 0);
+            generator.writeStringField("name", CONFERENCE_NAME_PREFIX + index % scale.getConferences());
+            generator.writeNumberField("participant_count", perConference);
+            generator.writeStringField("resource_uri", "/api/admin/history/v1/conference/" + historyId(index) + "/");
+            generator.writeStringField("service_type", "conference");
+            generator.writeStringField("start_time", endTime.minusSeconds(600 + index % 3600).toString());
+            generator.writeStringField("tag", "");
+        };
+    }
+
+    ObjectSource historyParticipants() {
+        long perConference = scale.getHistoryParticipantsPerConference();
+        return (generator, index) -> {
+            long conference = index / perConference;
+            LocalDateTime endTime = historyStart.plusSeconds(historyConferenceEndSecond(conference));
+            generator.writeStringField("av_id", "av-" + index);
+            generator.writeNumberField("bandwidth", 1536);
+            generator.writeStringField("call_direction", index % 2 == 0 ? "in" : "out");
+            generator.writeStringField("call_uuid", historyId(conference) + "-" + index);
+            generator.writeStringField("conference", "/api/admin/history/v1/conference/" + historyId(conference) + "/");
+            generator.writeStringField("conference_name", CONFERENCE_NAME_PREFIX + conference % scale.getConferences());
+            generator.writeStringField("disconnect_reason", "Call disconnected");
+            generator.writeStringField("display_name", "Participant " + index);
+            generator.writeNumberField("duration", 600 + conference % 3600);
+            generator.writeStringField("encryption", "On");
+            generator.writeStringField("end_time", endTime.toString());
+            generator.writeBooleanField("has_media", true);
+            generator.writeStringField("id", historyId(conference) + "-" + index);
+            generator.writeNumberField("license_count", 1);
+            generator.writeStringField("license_type", "port");
+            generator.writeStringField("media_node", nodeAddress(conference % scale.getNodes()));
+            generator.writeStringField("protocol", "SIP");
+            generator.writeStringField("remote_address", "192.168." + index / 250 % 250 + "." + index % 250);
+            generator.writeStringField("role", index % perConference == 0 ? "chair" : "guest");
+            generator.writeNumberField("rx_bandwidth", 768);
+            generator.writeStringField("service_type", "conference");
+            generator.writeStringField("start_time", endTime.minusSeconds(600 + conference % 3600).toString());
+            generator.writeStringField("system_location", location(conference % scale.getNodes()));
+            generator.writeNumberField("tx_bandwidth", 768);
+            generator.writeStringField("vendor", "Pexip Infinity Connect");
+        };
+    }
+
+    /**
+     * Retrieve end time of the historical conference, as seconds since the history start.
+     * Conferences of a day are spread evenly within the day.
+     *
+     * @param index conference index
+     * @return seconds since {@link #historyStart}
+     */
+    private long historyConferenceEndSecond(long index) {
+        long perDay = scale.getHistoryConferencesPerDay();
+        return index / perDay * SECONDS_PER_DAY + index % perDay * SECONDS_PER_DAY / perDay + 1;
+    }
+
+    /**
+     * Find range of the objects, ended within the period. End times are non-decreasing by index.
+     *
+     * @param count        number of objects
+     * @param endSecond    end time of the object by index, as seconds since the history start
+     * @param from         start of the period (inclusive), or null
+     * @param to           end of the period (exclusive), or null
+     * @return first (inclusive) and last (exclusive) object indexes
+     */
+    private long[] historyRange(long count, LongUnaryOperator endSecond, LocalDateTime from, LocalDateTime to) {
+        long first = from == null ? 0 : lowerBound(count, endSecond, ChronoUnit.SECONDS.between(historyStart, from));
+        long last = to == null ? count : lowerBound(count, endSecond, ChronoUnit.SECONDS.between(historyStart, to));
+        return new long[]{first, Math.max(first, last)};
+    }
+
+    /**
+     * Binary search of the first object, that has ended at or after the given second
+     */
+    private long lowerBound(long count, LongUnaryOperator endSecond, long second) {
+        long low = 0;
+        long high = count;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (endSecond.applyAsLong(middle) < second) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String nodeName(long node) {
+        return "conferencing-node-" + node;
+    }
+
+    private static String nodeAddress(long node) {
+        return "10.0." + node / 250 + "." + (node % 250 + 1);
+    }
+
+    private static String location(long node) {
+        return "Location " + node % 5;
+    }
+
+    private static String conferenceId(long conference) {
+        return "00000000-0000-0000-0000-" + String.format("%012d", conference);
+    }
+
+    private static String historyId(long conference) {
+        return "10000000-0000-0000-0000-" + String.format("%012d", conference);
+    }
+}
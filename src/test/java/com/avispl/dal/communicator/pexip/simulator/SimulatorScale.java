@@ -0,0 +1,137 @@
+package com.avispl.dal.communicator.pexip.simulator;
+
+/**
+ * Volume of the data, served by {@link ManagementNodeSimulator}
+ */
+public final class SimulatorScale {
+    public static final SimulatorScale SMALL = new SimulatorScale("SMALL", 10, 100, 1000, 45, 50, 5);
+    public static final SimulatorScale MEDIUM = new SimulatorScale("MEDIUM", 50, 1000, 10000, 62, 500, 10);
+    public static final SimulatorScale LARGE = new SimulatorScale("LARGE", 200, 5000, 50000, 62, 2000, 10);
+
+    private final String name;
+    private final int nodes;
+    private final int conferences;
+    private final int participants;
+    private final int historyDays;
+    private final int historyConferencesPerDay;
+    private final int historyParticipantsPerConference;
+
+    /**
+     * Create simulator scale
+     *
+     * @param name                             name of the scale tier
+     * @param nodes                            number of conferencing nodes
+     * @param conferences                      number of active conferences
+     * @param participants                     number of active participants, split evenly between conferences
+     * @param historyDays                      number of past days, covered by the history data
+     * @param historyConferencesPerDay         number of conferences, ended per day
+     * @param historyParticipantsPerConference number of participants of every historical conference
+     */
+    public SimulatorScale(String name, int nodes, int conferences, int participants, int historyDays,
+                          int historyConferencesPerDay, int historyParticipantsPerConference) {
+        this.name = name;
+        this.nodes = Math.max(1, nodes);
+        this.conferences = Math.max(1, conferences);
+        this.participants = participants;
+        this.historyDays = historyDays;
+        this.historyConferencesPerDay = Math.max(1, historyConferencesPerDay);
+        this.historyParticipantsPerConference = Math.max(1, historyParticipantsPerConference);
+    }
+
+    /**
+     * Retrieve predefined scale tier by name
+     *
+     * @param name SMALL, MEDIUM or LARGE
+     * @return {@link SimulatorScale} tier
+     * @throws IllegalArgumentException if there is no such tier
+     */
+    public static SimulatorScale valueOf(String name) {
+        switch (name.trim().toUpperCase()) {
+            case "SMALL":
+                return SMALL;
+            case "MEDIUM":
+                return MEDIUM;
+            case "LARGE":
+                return LARGE;
+            default:
+                throw new IllegalArgumentException("Unknown simulator scale: " + name);
+        }
+    }
+
+    /**
+     * Retrieves {@code {@link #name}}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves {@code {@link #nodes}}
+     *
+     * @return value of {@link #nodes}
+     */
+    public int getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Retrieves {@code {@link #conferences}}
+     *
+     * @return value of {@link #conferences}
+     */
+    public int getConferences() {
+        return conferences;
+    }
+
+    /**
+     * Retrieves {@code {@link #participants}}
+     *
+     * @return value of {@link #participants}
+     */
+    public int getParticipants() {
+        return participants;
+    }
+
+    /**
+     * Retrieves {@code {@link #historyDays}}
+     *
+     * @return value of {@link #historyDays}
+     */
+    public int getHistoryDays() {
+        return historyDays;
+    }
+
+    /**
+     * Retrieves {@code {@link #historyConferencesPerDay}}
+     *
+     * @return value of {@link #historyConferencesPerDay}
+     */
+    public int getHistoryConferencesPerDay() {
+        return historyConferencesPerDay;
+    }
+
+    /**
+     * Retrieves {@code {@link #historyParticipantsPerConference}}
+     *
+     * @return value of {@link #historyParticipantsPerConference}
+     */
+    public int getHistoryParticipantsPerConference() {
+        return historyParticipantsPerConference;
+    }
+
+    /**
+     * Retrieve max number of participants of a single active conference
+     *
+     * @return participants per conference
+     */
+    public int getParticipantsPerConference() {
+        return (participants + conferences - 1) / conferences;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + nodes + " nodes, " + conferences + " conferences, " + participants + " participants)";
+    }
+}
@@ -0,0 +1,144 @@
+package com.avispl.dal.communicator.pexip.simulator;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local SMTP server stand-in, that accepts all the messages and keeps them in memory.
+ * Implements the minimal subset of SMTP, used by JavaMail without authentication and TLS.
+ */
+public final class SmtpServerStub implements Closeable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService executorService = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "smtp-server-stub");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<String> messages = new ArrayList<>();
+
+    /**
+     * Start SMTP server on a free local port
+     *
+     * @throws IOException if the server socket cannot be opened
+     */
+    public SmtpServerStub() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executorService.submit(this::acceptConnections);
+    }
+
+    /**
+     * Retrieve local port the server listens on
+     *
+     * @return server port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Retrieve received messages
+     *
+     * @return raw messages, including headers
+     */
+    public List<String> getMessages() {
+        synchronized (messages) {
+            return new ArrayList<>(messages);
+        }
+    }
+
+    /**
+     * Wait for the messages to be received
+     *
+     * @param count   number of messages to wait for
+     * @param timeout max time (ms) to wait for
+     * @return received messages
+     * @throws InterruptedException if waiting is interrupted
+     */
+    public List<String> awaitMessages(int count, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (messages) {
+            long remaining = timeout;
+            while (messages.size() < count && remaining > 0) {
+                messages.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+            return new ArrayList<>(messages);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executorService.shutdownNow();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executorService.submit(() -> handleSession(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handleSession(Socket socket) {
+        try (Socket session = socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(session.getInputStream(), StandardCharsets.US_ASCII));
+             Writer writer = new OutputStreamWriter(session.getOutputStream(), StandardCharsets.US_ASCII)) {
+            reply(writer, "220 localhost SMTP stub ready");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                switch (command) {
+                    case "EHLO":
+                    case "HELO":
+                        reply(writer, "250 localhost");
+                        break;
+                    case "DATA":
+                        reply(writer, "354 End data with <CR><LF>.<CR><LF>");
+                        readMessage(reader);
+                        reply(writer, "250 OK");
+                        break;
+                    case "QUIT":
+                        reply(writer, "221 Bye");
+                        return;
+                    default:
+                        reply(writer, "250 OK");
+                }
+            }
+        } catch (IOException e) {
+            // Client has disconnected, nothing to handle here
+        }
+    }
+
+    private void readMessage(BufferedReader reader) throws IOException {
+        StringBuilder message = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null && !".".equals(line)) {
+            message.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+        }
+        synchronized (messages) {
+            messages.add(message.toString());
+            messages.notifyAll();
+        }
+    }
+
+    private void reply(Writer writer, String reply) throws IOException {
+        writer.write(reply + "\r\n");
+        writer.flush();
+    }
+}